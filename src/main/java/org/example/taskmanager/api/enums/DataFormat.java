@@ -0,0 +1,39 @@
+package org.example.taskmanager.api.enums;
+
+import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Format of bulk import and export
+ */
+public enum DataFormat {
+
+    NDJSON,
+    CSV;
+
+    /**
+     * Parsing format request parameter
+     *
+     * @param format format name in any case
+     * @return format
+     * @throws UnexpectedRequestParameterException if the format is unknown
+     */
+    public static DataFormat parse(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new UnexpectedRequestParameterException(
+                    String.format(
+                            "%s - unknown format. Existed values: %s",
+                            format,
+                            Arrays.stream(values())
+                                    .map(it -> it.name().toLowerCase(Locale.ROOT))
+                                    .collect(Collectors.joining(", "))
+                    )
+            );
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.taskmanager.api.enums;
+
+public enum TaskBatchOperationType {
+    CREATE,
+    UPDATE,
+    STATUS,
+    DELETE
+}
@@ -0,0 +1,7 @@
+package org.example.taskmanager.api.enums;
+
+public enum TaskSortKey {
+
+    ID,
+    LABEL
+}
@@ -0,0 +1,35 @@
+package org.example.taskmanager.api.request.task;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+
+import java.util.UUID;
+
+/**
+ * Imported task row, the identifier is generated if it's absent
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportTaskRequest {
+
+    private UUID id;
+    @NotNull
+    @Size(min = 1, max = 256, message = "Label size must be between 1 and 256")
+    private String label;
+    private String description;
+    @NotNull (message = "Status can not be null (SELECT: WAITING, PROCESSING, COMPLETE)")
+    private TaskStatus status;
+    @NotNull (message = "Priority can not be null (SELECT: HIGH, MEDIUM, LOW)")
+    private TaskPriority priority;
+    @NotNull (message = "Author can not be null (SEND author's UUID)")
+    private UUID authorId;
+    private UUID executorId;
+}
@@ -0,0 +1,29 @@
+package org.example.taskmanager.api.request.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.taskmanager.api.enums.TaskBatchOperationType;
+import org.example.taskmanager.api.enums.TaskStatus;
+
+import java.util.UUID;
+
+/**
+ * One operation of the batch: CREATE needs task, UPDATE - id and task, STATUS - id and status, DELETE - id
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchOperation {
+
+    @NotNull(message = "Operation type can not be null (SELECT: CREATE, UPDATE, STATUS, DELETE)")
+    private TaskBatchOperationType type;
+    private UUID id;
+    @Valid
+    private PutTaskRequest task;
+    private TaskStatus status;
+}
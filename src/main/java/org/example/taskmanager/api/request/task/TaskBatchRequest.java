@@ -0,0 +1,23 @@
+package org.example.taskmanager.api.request.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequest {
+
+    @NotEmpty(message = "Batch must contain operations")
+    @Size(max = 500, message = "Max of batch size is 500")
+    private List<@Valid @NotNull TaskBatchOperation> operations;
+}
@@ -0,0 +1,44 @@
+package org.example.taskmanager.api.request.task;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskSortKey;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.util.PaginationConstraint;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Task search filters, null or empty filter isn't applied
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchRequest {
+
+    private Set<TaskStatus> status;
+    private Set<TaskPriority> priority;
+    /**
+     * true - only not completed tasks
+     */
+    private Boolean active;
+    private UUID authorId;
+    private UUID executorId;
+    @Size(min = 1, max = 256, message = "Label prefix size must be between 1 and 256")
+    private String labelPrefix;
+    @Builder.Default
+    private TaskSortKey sort = TaskSortKey.ID;
+    @Builder.Default
+    @Positive(message = "pageSize must be positive")
+    @Max(value = PaginationConstraint.MAX_PAGE_SIZE, message = "pageSize must not exceed " + PaginationConstraint.MAX_PAGE_SIZE)
+    private Integer pageSize = 50;
+    private String cursor;
+}
@@ -0,0 +1,43 @@
+package org.example.taskmanager.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Page of keyset pagination, the cursor of the next page is passed in response header
+ * to keep response body compatible with offset pagination
+ *
+ * @param <T> item type
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private List<T> items;
+    /**
+     * Opaque cursor of the next page, null - if the page is the last one
+     */
+    private String nextCursor;
+
+    /**
+     * Building response with page items as body and next page cursor as header
+     *
+     * @return ResponseEntity with page items
+     */
+    public ResponseEntity<Collection<T>> toResponseEntity() {
+        var response = ResponseEntity.status(HttpStatus.OK);
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(items);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.taskmanager.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Page of offset pagination fetched without count query.
+ * Page metadata is passed in response headers to keep response body compatible
+ *
+ * @param <T> item type
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlicePage<T> {
+
+    public static final String HAS_NEXT_HEADER = "X-Has-Next";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private List<T> items;
+    private boolean hasNext;
+    /**
+     * Total count of items (may be approximate), null - if it wasn't requested
+     */
+    private Long total;
+    /**
+     * Entity tag of the page, null - the page has no entity tag
+     */
+    private String eTag;
+
+    public SlicePage(List<T> items, boolean hasNext, Long total) {
+        this(items, hasNext, total, null);
+    }
+
+    /**
+     * Building response with page items as body and page metadata and entity tag as headers
+     *
+     * @return ResponseEntity with page items
+     */
+    public ResponseEntity<Collection<T>> toResponseEntity() {
+        var response = ResponseEntity.status(HttpStatus.OK)
+                .header(HAS_NEXT_HEADER, String.valueOf(hasNext));
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        if (total != null) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(total));
+        }
+        return response.body(items);
+    }
+}
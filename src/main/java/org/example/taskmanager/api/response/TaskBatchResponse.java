@@ -0,0 +1,29 @@
+package org.example.taskmanager.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.taskmanager.api.enums.TaskBatchOperationType;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchResponse {
+
+    /**
+     * Results in order of the operations
+     */
+    private List<OperationResult> results;
+
+    /**
+     * @param index position of the operation in the batch, starting from 0
+     * @param type  operation type
+     * @param id    task identifier
+     * @param task  task data after the operation, null - for deleted task
+     */
+    public record OperationResult(int index, TaskBatchOperationType type, UUID id, TaskResponse task) {
+    }
+}
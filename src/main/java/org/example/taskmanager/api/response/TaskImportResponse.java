@@ -0,0 +1,27 @@
+package org.example.taskmanager.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportResponse {
+
+    private long imported;
+    private long failed;
+    /**
+     * Errors of failed rows, the list is truncated to configured size
+     */
+    private List<RowError> errors;
+
+    /**
+     * @param row     row number, starting from 1 (CSV header isn't counted)
+     * @param message error description
+     */
+    public record RowError(long row, String message) {
+    }
+}
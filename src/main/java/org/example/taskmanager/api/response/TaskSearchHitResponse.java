@@ -0,0 +1,32 @@
+package org.example.taskmanager.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSearchHitResponse {
+
+    private UUID id;
+    private String label;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private UUID authorId;
+    private UUID executorId;
+    private Float rank;
+    /**
+     * Label with highlighted matches
+     */
+    private String labelHeadline;
+    /**
+     * Description fragments with highlighted matches
+     */
+    private String descriptionHeadline;
+}
@@ -0,0 +1,45 @@
+package org.example.taskmanager.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.taskmanager.util.ETags;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Response data of a versioned entity, the version is passed in ETag header to keep response body compatible
+ *
+ * @param <T> response data type
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VersionedResponse<T> {
+
+    private T body;
+    private long version;
+
+    /**
+     * Building response with data as body and version as entity tag
+     *
+     * @return ResponseEntity with data
+     */
+    public ResponseEntity<T> toResponseEntity() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(ETags.of(version))
+                .body(body);
+    }
+
+    /**
+     * Building empty response telling the client its copy is up to date
+     *
+     * @param eTag current entity tag
+     * @return ResponseEntity with 304 status
+     */
+    public static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .build();
+    }
+}
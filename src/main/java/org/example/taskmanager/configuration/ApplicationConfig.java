@@ -1,12 +1,20 @@
 package org.example.taskmanager.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.security.PooledPasswordEncoder;
+import org.example.taskmanager.util.IdGenerator;
+import org.example.taskmanager.util.RandomUuidGenerator;
+import org.example.taskmanager.util.UuidV7Generator;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Locale;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
@@ -19,7 +27,27 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.hashing.bcrypt-strength}") int strength,
+            @Value("${password.hashing.pool-size}") int poolSize,
+            @Value("${password.hashing.queue-capacity}") int queueCapacity,
+            @Value("${password.hashing.wait-timeout}") Duration waitTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        return new PooledPasswordEncoder(strength, poolSize, queueCapacity, waitTimeout, meterRegistry);
+    }
+
+    /**
+     * Generator of entity identifiers: v7 - time-ordered, v4 - random
+     */
+    @Bean
+    public IdGenerator idGenerator(@Value("${id.generator}") String generator) {
+        return switch (generator.toLowerCase(Locale.ROOT)) {
+            case "v7" -> new UuidV7Generator();
+            case "v4" -> new RandomUuidGenerator();
+            default -> throw new IllegalArgumentException(
+                    String.format("%s - unknown id generator. Existed values: v7, v4", generator)
+            );
+        };
     }
 }
@@ -0,0 +1,22 @@
+package org.example.taskmanager.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Regions of Hibernate second-level cache
+ *
+ * @param regions region settings by region name
+ */
+@ConfigurationProperties(prefix = "second-level-cache")
+public record SecondLevelCacheProperties(Map<String, Region> regions) {
+
+    /**
+     * @param maximumSize maximum count of entries
+     * @param ttl         time to live of entry after write, null - entries don't expire
+     */
+    public record Region(long maximumSize, Duration ttl) {
+    }
+}
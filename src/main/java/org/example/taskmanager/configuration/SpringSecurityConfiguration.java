@@ -1,10 +1,13 @@
 package org.example.taskmanager.configuration;
 
 import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.api.response.CursorPage;
+import org.example.taskmanager.api.response.SlicePage;
 import org.example.taskmanager.security.JwtFilter;
 import org.example.taskmanager.util.ProfileUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -16,6 +19,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
 
@@ -29,6 +34,12 @@ public class SpringSecurityConfiguration {
     public static final Boolean ALLOW_CREDENTIALS = true;
     public static final List<String> HTTP_METHODS = List.of("GET", "POST", "PUT", "PATCH", "DELETE");
     public static final List<String> HEADERS = List.of("*");
+    public static final List<String> EXPOSED_HEADERS = List.of(
+            CursorPage.NEXT_CURSOR_HEADER,
+            SlicePage.HAS_NEXT_HEADER,
+            SlicePage.TOTAL_COUNT_HEADER,
+            HttpHeaders.ETAG
+    );
 
     private final ProfileUtil profileUtil;
     private final JwtFilter jwtFilter;
@@ -37,16 +48,7 @@ public class SpringSecurityConfiguration {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
-                .cors(cors -> cors.configurationSource(
-                        request -> {
-                            var corsConfiguration = new CorsConfiguration();
-                            corsConfiguration.setAllowedOriginPatterns(ORIGINS_PATTERNS);
-                            corsConfiguration.setAllowCredentials(ALLOW_CREDENTIALS);
-                            corsConfiguration.setAllowedMethods(HTTP_METHODS);
-                            corsConfiguration.setAllowedHeaders(HEADERS);
-                            return corsConfiguration;
-                        }
-                ))
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(request -> request
                         .requestMatchers(PERMITTED_ALL).permitAll()
                         //.requestMatchers("/profiles/**").hasAuthority(ADMIN_ROLE)
@@ -59,11 +61,26 @@ public class SpringSecurityConfiguration {
         return http.build();
     }
 
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        var corsConfiguration = new CorsConfiguration();
+        corsConfiguration.setAllowedOriginPatterns(ORIGINS_PATTERNS);
+        corsConfiguration.setAllowCredentials(ALLOW_CREDENTIALS);
+        corsConfiguration.setAllowedMethods(HTTP_METHODS);
+        corsConfiguration.setAllowedHeaders(HEADERS);
+        corsConfiguration.setExposedHeaders(EXPOSED_HEADERS);
+
+        var source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", corsConfiguration);
+        return source;
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         var authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(profileUtil.userDetailsService());
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(profileUtil.userDetailsPasswordService());
         return authProvider;
     }
 
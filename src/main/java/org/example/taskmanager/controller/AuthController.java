@@ -44,8 +44,6 @@ public class AuthController {
         );
     }
 
-    //TODO create scheduler for automatic cleaning token table
-
     /**
      * Logout authorized profile
      *
@@ -2,6 +2,8 @@ package org.example.taskmanager.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.api.request.profile.AddProfileRequest;
@@ -10,6 +12,7 @@ import org.example.taskmanager.api.response.ProfileResponse;
 import org.example.taskmanager.api.response.TaskResponse;
 import org.example.taskmanager.service.interfaces.ProfileService;
 import org.example.taskmanager.service.interfaces.TaskService;
+import org.example.taskmanager.util.PaginationConstraint;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -55,24 +58,25 @@ public class ProfileController {
     /**
      * Getting profiles
      *
-     * @param pageSize   Count of profiles in the response
-     * @param pageNumber Offset
+     * @param pageSize     Count of profiles in the response
+     * @param pageNumber   Offset
+     * @param includeTotal Adding approximate total count header
      * @return ResponseEntity with Collection of profiles as response body
      */
     @Operation(summary = "Getting profiles")
     @GetMapping
     public ResponseEntity<Collection<ProfileResponse>> getAllWithPagination(
             @RequestParam("pageSize")
-            @PositiveOrZero(message = "pageSize must be positive or zero")
+            @Positive(message = "pageSize must be positive")
+            @Max(value = PaginationConstraint.MAX_PAGE_SIZE, message = "pageSize must not exceed " + PaginationConstraint.MAX_PAGE_SIZE)
             Integer pageSize,
             @RequestParam("pageNumber")
             @PositiveOrZero(message = "pageNumber must be positive or zero")
-            Integer pageNumber
+            Integer pageNumber,
+            @RequestParam(value = "includeTotal", defaultValue = "false")
+            Boolean includeTotal
     ) {
-        return new ResponseEntity<>(
-                profileService.getAllWithPagination(pageSize, pageNumber),
-                HttpStatus.OK
-        );
+        return profileService.getAllWithPagination(pageSize, pageNumber, includeTotal).toResponseEntity();
     }
 
     /**
@@ -112,10 +116,13 @@ public class ProfileController {
     }
 
     /**
-     * Get profile's tasks
+     * Get profile's tasks with keyset pagination, the cursor of the next page is returned in X-Next-Cursor header
      *
-     * @param id     Unique profile identifier
-     * @param status profile status - The role of the profile in the task
+     * @param id         Unique profile identifier
+     * @param status     profile status - The role of the profile in the task
+     * @param taskStatus task status filter, null - tasks with any status
+     * @param pageSize   Count of tasks in the response
+     * @param cursor     cursor of the page, null - first page
      * @return ResponseEntity with list of profile's tasks as response body
      */
     @Operation(summary = "Get profile's tasks")
@@ -124,12 +131,17 @@ public class ProfileController {
             @PathVariable
             UUID id,
             @RequestParam("status")
-            String status
+            String status,
+            @RequestParam(value = "taskStatus", required = false)
+            String taskStatus,
+            @RequestParam(value = "pageSize", defaultValue = "50")
+            @Positive(message = "pageSize must be positive")
+            @Max(value = PaginationConstraint.MAX_PAGE_SIZE, message = "pageSize must not exceed " + PaginationConstraint.MAX_PAGE_SIZE)
+            Integer pageSize,
+            @RequestParam(value = "cursor", required = false)
+            String cursor
     ) {
-        return new ResponseEntity<>(
-                taskService.getByProfile(id, status),
-                HttpStatus.OK
-        );
+        return taskService.getByProfile(id, status, taskStatus, pageSize, cursor).toResponseEntity();
     }
 
     /**
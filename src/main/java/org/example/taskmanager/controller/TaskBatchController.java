@@ -0,0 +1,41 @@
+package org.example.taskmanager.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.api.request.task.TaskBatchRequest;
+import org.example.taskmanager.api.response.TaskBatchResponse;
+import org.example.taskmanager.service.interfaces.TaskBatchService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskBatchController {
+
+    private final TaskBatchService taskBatchService;
+
+    /**
+     * Executing mixed create, update, status change and delete operations in one transaction
+     *
+     * @param request RequestBody with operations
+     * @return ResponseEntity with results of the operations as response body
+     */
+    @Operation(summary = "Batch of task operations")
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> execute(
+            @Valid
+            @RequestBody
+            TaskBatchRequest request
+    ) {
+        return new ResponseEntity<>(
+                taskBatchService.execute(request),
+                HttpStatus.OK
+        );
+    }
+}
@@ -6,7 +6,10 @@ import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.api.request.taskComment.AddTaskCommentRequest;
 import org.example.taskmanager.api.request.taskComment.PutTaskCommentRequest;
 import org.example.taskmanager.api.response.TaskCommentResponse;
+import org.example.taskmanager.api.response.VersionedResponse;
 import org.example.taskmanager.service.interfaces.TaskCommentService;
+import org.example.taskmanager.util.ETags;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -47,18 +51,28 @@ public class TaskCommentController {
     }
 
     /**
-     * Getting Task's comment by id
+     * Getting Task's comment by id.
+     * Not modified comment is answered by version lookup without response body
      *
-     * @param id Unique comment identifier
-     * @return ResponseEntity with task's comment data as response body
+     * @param id          Unique comment identifier
+     * @param ifNoneMatch entity tag of the client's copy
+     * @return ResponseEntity with task's comment data as response body and version as ETag
      */
     @Operation(summary = "Getting Task's comment by id")
     @GetMapping("/{id}")
-    public ResponseEntity<TaskCommentResponse> getById(@PathVariable UUID id) {
-        return new ResponseEntity<>(
-                taskCommentService.getById(id),
-                HttpStatus.OK
-        );
+    public ResponseEntity<TaskCommentResponse> getById(
+            @PathVariable
+            UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
+    ) {
+        if (ifNoneMatch != null) {
+            var eTag = ETags.of(taskCommentService.getVersion(id));
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return VersionedResponse.notModified(eTag);
+            }
+        }
+        return taskCommentService.getById(id).toResponseEntity();
     }
 
     /**
@@ -66,6 +80,7 @@ public class TaskCommentController {
      *
      * @param id      Unique comment identifier
      * @param request Request body with new comment data
+     * @param ifMatch entity tag of the updated version, the update is rejected if the comment is changed
      * @return ResponseEntity with new  saved comment data
      */
     @Operation(summary = "Put update of task's comment by id")
@@ -75,12 +90,11 @@ public class TaskCommentController {
             UUID id,
             @Valid
             @RequestBody
-            PutTaskCommentRequest request
+            PutTaskCommentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            String ifMatch
     ) {
-        return new ResponseEntity<>(
-                taskCommentService.update(id, request),
-                HttpStatus.OK
-        );
+        return taskCommentService.update(id, request, ETags.parseVersion(ifMatch)).toResponseEntity();
     }
 
     /**
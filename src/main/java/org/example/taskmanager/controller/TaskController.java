@@ -2,23 +2,34 @@ package org.example.taskmanager.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.api.enums.TaskSortKey;
 import org.example.taskmanager.api.request.task.AddTaskRequest;
 import org.example.taskmanager.api.request.task.PutTaskRequest;
+import org.example.taskmanager.api.request.task.TaskSearchRequest;
 import org.example.taskmanager.api.response.TaskCommentResponse;
 import org.example.taskmanager.api.response.TaskResponse;
+import org.example.taskmanager.api.response.TaskSearchHitResponse;
+import org.example.taskmanager.api.response.VersionedResponse;
 import org.example.taskmanager.service.interfaces.TaskCommentService;
 import org.example.taskmanager.service.interfaces.TaskService;
+import org.example.taskmanager.util.ETags;
+import org.example.taskmanager.util.PaginationConstraint;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -54,52 +65,117 @@ public class TaskController {
     }
 
     /**
-     * Getting task's data by id
+     * Getting task's data by id.
+     * Not modified task is answered by version lookup without response body
      *
-     * @param id Unique task identifier
-     * @return ResponseEntity with task data as response body
+     * @param id          Unique task identifier
+     * @param ifNoneMatch entity tag of the client's copy
+     * @return ResponseEntity with task data as response body and version as ETag
      */
     @Operation(summary = "Getting task's data by id")
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> get(
             @PathVariable("id")
-            UUID id
+            UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return new ResponseEntity<>(
-                taskService.getById(id),
-                HttpStatus.OK
-        );
+        if (ifNoneMatch != null) {
+            var eTag = ETags.of(taskService.getVersion(id));
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return VersionedResponse.notModified(eTag);
+            }
+        }
+        return taskService.getById(id).toResponseEntity();
     }
 
     /**
-     * Getting collection of tasks with pagination
+     * Getting collection of tasks with pagination.
+     * Offset pagination is used if page number is passed, otherwise keyset pagination by cursor is used
+     * and the cursor of the next page is returned in X-Next-Cursor header
      *
-     * @param pageSize   quantity of tasks dto by request
-     * @param pageNumber offset
+     * @param pageSize     quantity of tasks dto by request
+     * @param pageNumber   offset
+     * @param cursor       cursor of the page, null - first page
+     * @param sort         sort key of keyset pagination
+     * @param includeTotal adding approximate total count header, offset pagination only
      * @return ResponseEntity with collection of task's data as response body
      */
     @Operation(summary = "Getting collection of tasks with pagination")
     @GetMapping
     public ResponseEntity<Collection<TaskResponse>> getAllWithPagination(
-            @PositiveOrZero
+            @Positive
+            @Max(PaginationConstraint.MAX_PAGE_SIZE)
             @RequestParam("pageSize")
             Integer pageSize,
             @PositiveOrZero
-            @RequestParam("pageNumber")
-            Integer pageNumber
+            @RequestParam(value = "pageNumber", required = false)
+            Integer pageNumber,
+            @RequestParam(value = "cursor", required = false)
+            String cursor,
+            @RequestParam(value = "sort", defaultValue = "ID")
+            TaskSortKey sort,
+            @RequestParam(value = "includeTotal", defaultValue = "false")
+            Boolean includeTotal
     ) {
-        return new ResponseEntity<>(
-                taskService.getAllWithPagination(pageSize, pageNumber),
-                HttpStatus.OK
-        );
+        if (pageNumber == null) {
+            return taskService.getAllWithCursor(pageSize, cursor, sort).toResponseEntity();
+        }
+        return taskService.getAllWithPagination(pageSize, pageNumber, includeTotal).toResponseEntity();
+    }
+
+    /**
+     * Searching tasks by filters with keyset pagination,
+     * the cursor of the next page is returned in X-Next-Cursor header
+     *
+     * @param request search filters, sort and page
+     * @return ResponseEntity with collection of found task's data as response body
+     */
+    @Operation(summary = "Searching tasks by filters")
+    @GetMapping("/search")
+    public ResponseEntity<Collection<TaskResponse>> search(
+            @Valid
+            @ModelAttribute
+            TaskSearchRequest request
+    ) {
+        return taskService.search(request).toResponseEntity();
+    }
+
+    /**
+     * Full text search of tasks by label and description ranked by relevance,
+     * the cursor of the next page is returned in X-Next-Cursor header
+     *
+     * @param query           search query in web search syntax: words, "phrases", OR, -excluded
+     * @param includeComments searching in task's comments too
+     * @param pageSize        quantity of tasks dto by request
+     * @param cursor          cursor of the page, null - first page
+     * @return ResponseEntity with collection of found tasks with highlighted matches as response body
+     */
+    @Operation(summary = "Full text search of tasks")
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<Collection<TaskSearchHitResponse>> searchFullText(
+            @RequestParam("q")
+            String query,
+            @RequestParam(value = "includeComments", defaultValue = "false")
+            Boolean includeComments,
+            @Positive
+            @Max(PaginationConstraint.MAX_PAGE_SIZE)
+            @RequestParam(value = "pageSize", defaultValue = "20")
+            Integer pageSize,
+            @RequestParam(value = "cursor", required = false)
+            String cursor
+    ) {
+        return taskService.searchFullText(query, includeComments, pageSize, cursor).toResponseEntity();
     }
 
     /**
      * Getting task's comments by task id
      *
-     * @param id         Unique task identifier
-     * @param pageSize   quantity of comments dto by request
-     * @param pageNumber offset
+     * @param id           Unique task identifier
+     * @param pageSize     quantity of comments dto by request
+     * @param pageNumber   offset
+     * @param includeTotal adding total count header
+     * @param ifNoneMatch  entity tag of the client's copy of the page
      * @return ResponseEntity with collection of task's comments data as response body
      */
     @Operation(summary = "Getting task's comments by task id")
@@ -107,17 +183,28 @@ public class TaskController {
     public ResponseEntity<Collection<TaskCommentResponse>> getComments(
             @PathVariable
             UUID id,
-            @PositiveOrZero
+            @Positive
+            @Max(PaginationConstraint.MAX_PAGE_SIZE)
             @RequestParam("pageSize")
             Integer pageSize,
             @PositiveOrZero
             @RequestParam("pageNumber")
-            Integer pageNumber
+            Integer pageNumber,
+            @RequestParam(value = "includeTotal", defaultValue = "false")
+            Boolean includeTotal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch
     ) {
-        return new ResponseEntity<>(
-                taskCommentServiceImpl.getAllByTaskWithPagination(id, pageNumber, pageSize),
-                HttpStatus.OK
-        );
+        if (ifNoneMatch != null) {
+            // revalidation reads versions only, the page is read only if it was changed
+            var eTag = taskCommentServiceImpl.getPageETag(id, pageNumber, pageSize, includeTotal);
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return VersionedResponse.notModified(eTag);
+            }
+        }
+        // the page carries the tag built from its own comments
+        return taskCommentServiceImpl.getAllByTaskWithPagination(id, pageNumber, pageSize, includeTotal)
+                .toResponseEntity();
     }
 
     /**
@@ -125,6 +212,7 @@ public class TaskController {
      *
      * @param id      Unique task identifier
      * @param request request body with new task's data
+     * @param ifMatch entity tag of the updated version, the update is rejected if the task is changed
      * @return ResponseEntity with new saves task's data
      */
     @Operation(summary = "Put update of task's data")
@@ -133,19 +221,20 @@ public class TaskController {
             @PathVariable("id")
             UUID id,
             @RequestBody
-            PutTaskRequest request
+            PutTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            String ifMatch
     ) {
-        return new ResponseEntity<>(
-                taskService.putUpdate(id, request),
-                HttpStatus.OK
-        );
+        return taskService.putUpdate(id, request, ETags.parseVersion(ifMatch)).toResponseEntity();
     }
 
     /**
      * Patch update of the task's status
      *
-     * @param id     Unique task identifier
-     * @param status Request param with new task status
+     * @param id             Unique task identifier
+     * @param status         Request param with new task status
+     * @param expectedStatus Request param with current task status, the update is rejected if it's changed
+     * @param ifMatch        entity tag of the updated version, the update is rejected if the task is changed
      * @return ResponseEntity with task's data after the update
      */
     @Operation(summary = "Patch update of the task's status")
@@ -154,12 +243,13 @@ public class TaskController {
             @PathVariable
             UUID id,
             @RequestParam("status")
-            String status
+            String status,
+            @RequestParam(value = "expectedStatus", required = false)
+            String expectedStatus,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            String ifMatch
     ) {
-        return new ResponseEntity<>(
-                taskService.patchStatus(id, status),
-                HttpStatus.OK
-        );
+        return taskService.patchStatus(id, status, expectedStatus, ETags.parseVersion(ifMatch)).toResponseEntity();
     }
 
     /**
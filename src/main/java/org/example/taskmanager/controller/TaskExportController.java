@@ -0,0 +1,82 @@
+package org.example.taskmanager.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.api.enums.DataFormat;
+import org.example.taskmanager.service.interfaces.TaskExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final TaskExportService taskExportService;
+
+    /**
+     * Streaming export of all tasks
+     *
+     * @param format ndjson or csv
+     * @return ResponseEntity with streamed tasks as response body
+     */
+    @Operation(summary = "Export of all tasks")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(value = "format", defaultValue = "ndjson")
+            String format
+    ) {
+        var exportFormat = DataFormat.parse(format);
+        return toResponse(
+                "tasks",
+                exportFormat,
+                outputStream -> taskExportService.exportTasks(exportFormat, outputStream)
+        );
+    }
+
+    /**
+     * Streaming export of all task comments
+     *
+     * @param format ndjson or csv
+     * @return ResponseEntity with streamed comments as response body
+     */
+    @Operation(summary = "Export of all task comments")
+    @GetMapping("/comments/export")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam(value = "format", defaultValue = "ndjson")
+            String format
+    ) {
+        var exportFormat = DataFormat.parse(format);
+        return toResponse(
+                "task-comments",
+                exportFormat,
+                outputStream -> taskExportService.exportComments(exportFormat, outputStream)
+        );
+    }
+
+    private static ResponseEntity<StreamingResponseBody> toResponse(
+            String fileName,
+            DataFormat format,
+            StreamingResponseBody body
+    ) {
+        var contentDisposition = ContentDisposition.attachment()
+                .filename(String.format("%s.%s", fileName, format.name().toLowerCase(Locale.ROOT)))
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format == DataFormat.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+}
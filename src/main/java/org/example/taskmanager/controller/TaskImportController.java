@@ -0,0 +1,40 @@
+package org.example.taskmanager.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.api.enums.DataFormat;
+import org.example.taskmanager.api.response.TaskImportResponse;
+import org.example.taskmanager.service.interfaces.TaskImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskImportController {
+
+    private final TaskImportService taskImportService;
+
+    /**
+     * Bulk import of tasks authored by the authorized profile, invalid rows are skipped and reported
+     *
+     * @param format      ndjson or csv (with header line)
+     * @param inputStream request body with tasks
+     * @return ResponseEntity with TaskImportResponse as response body
+     */
+    @Operation(summary = "Bulk import of tasks")
+    @PostMapping("/import")
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @RequestParam(value = "format", defaultValue = "ndjson")
+            String format,
+            InputStream inputStream
+    ) {
+        return new ResponseEntity<>(taskImportService.importTasks(DataFormat.parse(format), inputStream), HttpStatus.OK);
+    }
+}
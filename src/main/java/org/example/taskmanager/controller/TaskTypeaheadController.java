@@ -0,0 +1,43 @@
+package org.example.taskmanager.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.api.response.TaskSuggestionResponse;
+import org.example.taskmanager.service.interfaces.TaskTypeaheadService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collection;
+
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskTypeaheadController {
+
+    private final TaskTypeaheadService taskTypeaheadService;
+
+    /**
+     * Typeahead of labels of tasks where the authorized profile is author or executor
+     *
+     * @param query typed part of the label
+     * @param limit maximum count of suggestions
+     * @return ResponseEntity with collection of task suggestions as response body
+     */
+    @Operation(summary = "Typeahead of task labels")
+    @GetMapping("/typeahead")
+    public ResponseEntity<Collection<TaskSuggestionResponse>> typeahead(
+            @RequestParam("q")
+            String query,
+            @RequestParam(value = "limit", defaultValue = "10")
+            Integer limit
+    ) {
+        return new ResponseEntity<>(
+                taskTypeaheadService.suggest(query, limit),
+                HttpStatus.OK
+        );
+    }
+}
@@ -6,24 +6,33 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.taskmanager.api.enums.JwtType;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Data
+@EqualsAndHashCode(callSuper = false)
 @Entity
 @Getter
 @Table(name = "jwt_token")
 @NoArgsConstructor
 @AllArgsConstructor
-public class Jwt {
+public class Jwt extends PersistableEntity {
 
     @Id
     private UUID id;
     @Column(name = "profile_id")
     private UUID profileId;
     private String token;
+    @Column(name = "token_digest")
+    private byte[] tokenDigest;
     private JwtType type;
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
 }
@@ -0,0 +1,34 @@
+package org.example.taskmanager.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Base of entities with application-assigned identifiers.
+ * Entity is new until it is persisted or loaded, so saving it issues a plain INSERT without preceding SELECT
+ */
+@MappedSuperclass
+public abstract class PersistableEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marking entity as already existing, saving it issues an update
+     */
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        isNew = false;
+    }
+}
@@ -1,24 +1,32 @@
 package org.example.taskmanager.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.example.taskmanager.api.enums.TaskPriority;
 import org.example.taskmanager.api.enums.TaskStatus;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Data
+@EqualsAndHashCode(callSuper = false)
 @Entity
 @NoArgsConstructor
 @Table(name="task")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
 @AllArgsConstructor
-public class Task implements Cloneable{
+public class Task extends PersistableEntity implements Cloneable {
 
     @Id
     private UUID id;
@@ -30,6 +38,8 @@ public class Task implements Cloneable{
     private TaskPriority priority;
     private UUID authorId;
     private UUID executorId;
+    @Version
+    private Long version;
 
     @Override
     public Task clone() {
@@ -42,6 +52,7 @@ public class Task implements Cloneable{
             clone.setPriority(priority);
             clone.setAuthorId(authorId);
             clone.setExecutorId(executorId);
+            clone.setVersion(version);
             return clone;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
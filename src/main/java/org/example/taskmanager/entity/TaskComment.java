@@ -1,21 +1,29 @@
 package org.example.taskmanager.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Data
+@EqualsAndHashCode(callSuper = false)
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name="task_comment")
-public class TaskComment {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task_comment")
+public class TaskComment extends PersistableEntity {
 
     @Id
     private UUID id;
@@ -24,4 +32,6 @@ public class TaskComment {
     @Column(name="task_id")
     private UUID taskId;
     private String content;
+    @Version
+    private Long version;
 }
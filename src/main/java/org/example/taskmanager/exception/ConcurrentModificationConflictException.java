@@ -0,0 +1,11 @@
+package org.example.taskmanager.exception;
+
+/**
+ * Conditional write is rejected, the row was changed by another request
+ */
+public class ConcurrentModificationConflictException extends RuntimeException {
+
+    public ConcurrentModificationConflictException(String message) {
+        super(message);
+    }
+}
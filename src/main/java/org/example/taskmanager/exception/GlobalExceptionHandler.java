@@ -2,6 +2,8 @@ package org.example.taskmanager.exception;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -71,6 +73,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ex.getMessage());
     }
 
+    @ExceptionHandler(ConcurrentModificationConflictException.class)
+    protected ResponseEntity<String> handleConcurrentModificationConflict(
+            ConcurrentModificationConflictException ex
+    ) {
+        LOGGER.info("Concurrent modification conflict: " + ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<String> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        LOGGER.info("Optimistic locking failure: " + ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Entity was changed by another request");
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    protected ResponseEntity<String> handlePreconditionFailed(PreconditionFailedException ex) {
+        LOGGER.info("Precondition failed: " + ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    protected ResponseEntity<String> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+        LOGGER.info("Password hashing rejected: " + ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     protected ResponseEntity<String> handleAccessDeniedException(AccessDeniedException ex) {
         LOGGER.info(String.format("Unauthorized request: %s", ex));
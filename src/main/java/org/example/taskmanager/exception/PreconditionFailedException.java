@@ -0,0 +1,11 @@
+package org.example.taskmanager.exception;
+
+/**
+ * Entity tag passed in If-Match header doesn't match the current version of the entity
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
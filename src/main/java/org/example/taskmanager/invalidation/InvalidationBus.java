@@ -0,0 +1,187 @@
+package org.example.taskmanager.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cross-node invalidation bus on top of Postgres LISTEN/NOTIFY.
+ * Events are sent with pg_notify inside the current transaction, so other nodes receive them only after commit,
+ * the publishing node applies them to its own listeners after commit as well.
+ * LISTEN is held on a dedicated connection outside of the pool, so it doesn't take a connection from requests
+ */
+@Component
+@RequiredArgsConstructor
+public class InvalidationBus implements SmartLifecycle {
+
+    private static final Logger LOGGER = Logger.getLogger(InvalidationBus.class.getName());
+    /**
+     * pg_notify payload must be shorter than 8000 bytes
+     */
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    @Value("${invalidation.channel}")
+    private String channel;
+    @Value("${invalidation.poll-timeout}")
+    private Duration pollTimeout;
+    @Value("${invalidation.reconnect-delay}")
+    private Duration reconnectDelay;
+    @Value("${spring.datasource.url}")
+    private String url;
+    @Value("${spring.datasource.username}")
+    private String username;
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<InvalidationListener> listeners;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    /**
+     * Publishing event to all nodes
+     *
+     * @param event invalidation event
+     */
+    public void publish(InvalidationEvent event) {
+        var payload = toPayload(new InvalidationMessage(nodeId, event));
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            LOGGER.warning(String.format("Invalidation event is too large for NOTIFY, resync is requested: %s", event));
+            payload = toPayload(new InvalidationMessage(nodeId, null));
+        }
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Listening loop. Any failure, including failed resync or failed listener, drops the connection:
+     * after reconnect listeners are resynced, as events may have been missed
+     */
+    private void listen() {
+        var connected = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                var pgConnection = connection.unwrap(PGConnection.class);
+                try (var statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connected) {
+                    // events sent while there was no connection are lost
+                    resync();
+                }
+                connected = true;
+                LOGGER.info(String.format("Listening for invalidation events on channel %s", channel));
+
+                while (running) {
+                    var notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications == null) continue;
+                    for (var notification : notifications) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) return;
+                LOGGER.log(Level.WARNING, "Invalidation listener failed, reconnecting", e);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        InvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, InvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            LOGGER.log(Level.WARNING, String.format("Failed to parse invalidation event: %s", payload), e);
+            return;
+        }
+        if (nodeId.equals(message.origin())) return;
+        if (message.event() == null) {
+            resync();
+        } else {
+            dispatch(message.event());
+        }
+    }
+
+    private void dispatch(InvalidationEvent event) {
+        listeners.orderedStream().forEach(listener -> listener.onInvalidation(event));
+    }
+
+    private void resync() {
+        listeners.orderedStream().forEach(InvalidationListener::onResync);
+    }
+
+    private String toPayload(InvalidationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Wire format of the event, event is null when all nodes must resync
+     *
+     * @param origin publishing node identifier
+     * @param event  invalidation event
+     */
+    record InvalidationMessage(String origin, InvalidationEvent event) {
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.taskmanager.invalidation;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Event telling every node to evict in-process state derived from changed rows
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = InvalidationEvent.TokensRevoked.class, name = "TOKENS_REVOKED"),
+        @JsonSubTypes.Type(value = InvalidationEvent.ProfileChanged.class, name = "PROFILE_CHANGED"),
+        @JsonSubTypes.Type(value = InvalidationEvent.TaskChanged.class, name = "TASK_CHANGED"),
+        @JsonSubTypes.Type(value = InvalidationEvent.TaskDeleted.class, name = "TASK_DELETED"),
+        @JsonSubTypes.Type(value = InvalidationEvent.ExecutorRemoved.class, name = "EXECUTOR_REMOVED"),
+        @JsonSubTypes.Type(value = InvalidationEvent.TasksImported.class, name = "TASKS_IMPORTED"),
+        @JsonSubTypes.Type(value = InvalidationEvent.TaskCommentChanged.class, name = "TASK_COMMENT_CHANGED")
+})
+public sealed interface InvalidationEvent {
+
+    /**
+     * Tokens were revoked (logout, sign-in, refresh)
+     *
+     * @param tokenIds revoked token identifiers (jti)
+     */
+    record TokensRevoked(List<UUID> tokenIds) implements InvalidationEvent {
+    }
+
+    /**
+     * Profile was updated, deactivated or deleted
+     *
+     * @param profileId profile identifier
+     */
+    record ProfileChanged(UUID profileId) implements InvalidationEvent {
+    }
+
+    /**
+     * Task was created or updated, carries the fields of in-process task indexes
+     *
+     * @param taskId     task identifier
+     * @param label      task label
+     * @param authorId   task author identifier
+     * @param executorId task executor identifier
+     */
+    record TaskChanged(UUID taskId, String label, UUID authorId, UUID executorId) implements InvalidationEvent {
+    }
+
+    /**
+     * Task was deleted
+     *
+     * @param taskId task identifier
+     */
+    record TaskDeleted(UUID taskId) implements InvalidationEvent {
+    }
+
+    /**
+     * Profile was removed from executors of all its tasks
+     *
+     * @param profileId profile identifier
+     */
+    record ExecutorRemoved(UUID profileId) implements InvalidationEvent {
+    }
+
+    /**
+     * Tasks were loaded in bulk, in-process task indexes have to be rebuilt
+     */
+    record TasksImported() implements InvalidationEvent {
+    }
+
+    /**
+     * Task comment was updated or deleted
+     *
+     * @param commentId task comment identifier
+     */
+    record TaskCommentChanged(UUID commentId) implements InvalidationEvent {
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.taskmanager.invalidation;
+
+/**
+ * Holder of in-process state which must be evicted when the source rows change on any node
+ */
+public interface InvalidationListener {
+
+    void onInvalidation(InvalidationEvent event);
+
+    /**
+     * Called when events could have been missed (lost database connection, oversized event),
+     * the listener should drop or reload all of its state
+     */
+    void onResync();
+}
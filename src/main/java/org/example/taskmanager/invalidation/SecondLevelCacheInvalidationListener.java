@@ -0,0 +1,55 @@
+package org.example.taskmanager.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.entity.Profile;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.entity.TaskComment;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicting Hibernate second-level cache entries changed on other nodes or by native statements.
+ * Hibernate keeps the cache of this node consistent with its own entity writes and JPQL bulk statements only,
+ * the rest is evicted here after commit
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidationListener implements InvalidationListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        var cache = cache();
+        if (event instanceof InvalidationEvent.TaskChanged taskChanged) {
+            cache.evictEntityData(Task.class, taskChanged.taskId());
+        } else if (event instanceof InvalidationEvent.TaskDeleted taskDeleted) {
+            cache.evictEntityData(Task.class, taskDeleted.taskId());
+            // comments of the task are deleted by one statement, their identifiers are unknown
+            cache.evictEntityData(TaskComment.class);
+            cache.evictQueryRegions();
+        } else if (event instanceof InvalidationEvent.ExecutorRemoved) {
+            cache.evictEntityData(Task.class);
+        } else if (event instanceof InvalidationEvent.ProfileChanged profileChanged) {
+            // cached email lookups and existence checks may refer to the changed profile
+            cache.evictEntityData(Profile.class, profileChanged.profileId());
+            cache.evictQueryRegions();
+        } else if (event instanceof InvalidationEvent.TasksImported) {
+            // copied rows bypass update timestamps of query cache
+            cache.evictQueryRegions();
+        } else if (event instanceof InvalidationEvent.TaskCommentChanged taskCommentChanged) {
+            cache.evictEntityData(TaskComment.class, taskCommentChanged.commentId());
+        }
+    }
+
+    @Override
+    public void onResync() {
+        cache().evictAllRegions();
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -1,15 +1,51 @@
 package org.example.taskmanager.repository;
 
 import org.example.taskmanager.entity.Jwt;
+import org.example.taskmanager.repository.projection.RevokedTokenView;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 public interface JwtDAO extends CrudRepository<Jwt, UUID> {
-    void deleteByProfileId(UUID profileId);
 
-    List<Jwt> getByProfileId(UUID profileId);
+    /**
+     * Revoking all live profile tokens
+     *
+     * @param profileId profile identifier
+     * @return identifiers of revoked tokens
+     */
+    @Query(
+            value = "UPDATE jwt_token SET revoked_at = now() " +
+                    "WHERE profile_id = :profileId AND revoked_at IS NULL " +
+                    "RETURNING id",
+            nativeQuery = true
+    )
+    @Transactional
+    List<UUID> revokeByProfileId(@Param("profileId") UUID profileId);
+
+    List<RevokedTokenView> findByRevokedAtIsNotNullAndExpiresAtAfter(Instant now);
+
+    /**
+     * Deleting one batch of expired tokens, rows locked by concurrent purges are skipped
+     *
+     * @param batchSize maximum count of deleted rows
+     * @return count of deleted rows
+     */
+    @Modifying
+    @Query(
+            value = "DELETE FROM jwt_token WHERE id IN (" +
+                    "SELECT id FROM jwt_token WHERE expires_at < now() " +
+                    "LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true
+    )
+    @Transactional
+    int deleteExpiredBatch(@Param("batchSize") int batchSize);
 
-    Jwt findByToken(String token);
-}
\ No newline at end of file
+    boolean existsByTokenDigestAndRevokedAtIsNull(byte[] tokenDigest);
+}
@@ -1,13 +1,58 @@
 package org.example.taskmanager.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.taskmanager.entity.Profile;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ProfileDAO extends JpaRepository<Profile, UUID> {
 
+    /**
+     * Finding profile by email, the result is kept in query cache, the profile - in second-level cache
+     *
+     * @param email profile email
+     * @return profile or null
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Profile findByEmail(String email);
+
+    /**
+     * Checking existence of profile, the result is kept in query cache until the profile table is changed
+     *
+     * @param id profile identifier
+     * @return true - if profile exists
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    boolean existsById(UUID id);
+
+    Slice<Profile> findAllBy(Pageable pageable);
+
+    /**
+     * Checking existence of several profiles by one query
+     *
+     * @param ids profile identifiers
+     * @return identifiers of existing profiles
+     */
+    @Query("SELECT p.id FROM Profile p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Estimating count of rows by planner statistics, no table scan
+     *
+     * @return approximate count of rows
+     */
+    @Query(value = "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'profile'::regclass", nativeQuery = true)
+    long estimateCount();
 }
@@ -1,19 +1,53 @@
 package org.example.taskmanager.repository;
 
 import org.example.taskmanager.entity.TaskComment;
-import org.springframework.data.domain.Page;
+import org.example.taskmanager.repository.projection.EntityVersionView;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TaskCommentDAO extends JpaRepository<TaskComment, UUID> {
 
-    Page<TaskComment> findAllByTaskId(UUID id, Pageable pageable);
+    Slice<TaskComment> findAllByTaskId(UUID id, Pageable pageable);
 
-    void deleteAllByTaskId(UUID taskId);
+    long countByTaskId(UUID taskId);
+
+    /**
+     * Page of comment versions, the same page as {@link #findAllByTaskId} without loading comment content
+     */
+    Slice<EntityVersionView> findVersionsByTaskId(UUID taskId, Pageable pageable);
+
+    @Query("SELECT c.version FROM TaskComment c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Deleting comments of the task by one statement, loaded comments aren't detached
+     *
+     * @param taskId task identifier
+     * @return count of deleted comments
+     */
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.taskId = :taskId")
+    int deleteAllByTaskId(@Param("taskId") UUID taskId);
+
+    /**
+     * Deleting comments of the tasks by one statement, loaded comments aren't detached
+     *
+     * @param taskIds task identifiers
+     * @return count of deleted comments
+     */
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.taskId IN :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
 
     Boolean existsByAuthorId(UUID profile);
 }
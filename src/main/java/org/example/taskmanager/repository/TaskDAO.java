@@ -1,19 +1,136 @@
 package org.example.taskmanager.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.repository.projection.TaskSearchHitView;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskDAO extends JpaRepository<Task, UUID> {
+public interface TaskDAO extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
-    Collection<Task> findTaskByAuthorId(UUID authorId);
+    Slice<Task> findAllBy(Pageable pageable);
 
-    Collection<Task> findTaskByExecutorId(UUID executorId);
+    /**
+     * Checking existence of task, the result is kept in query cache until the task table is changed
+     *
+     * @param id task identifier
+     * @return true - if task exists
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    boolean existsById(UUID id);
+
+    /**
+     * Estimating count of rows by planner statistics, no table scan
+     *
+     * @return approximate count of rows
+     */
+    @Query(value = "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'task'::regclass", nativeQuery = true)
+    long estimateCount();
+
+    /**
+     * Removing profile from executors of all its tasks by one statement.
+     * Bulk statements bypass {@code @Version}, the version is incremented explicitly to change entity tags
+     *
+     * @param executorId executor's profile identifier
+     * @return count of updated tasks
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.executorId = NULL, t.version = t.version + 1 WHERE t.executorId = :executorId")
+    int clearExecutor(@Param("executorId") UUID executorId);
+
+    /**
+     * Changing status only if status and version are still expected and the profile is author or executor
+     * of the task, one statement without loading the task.
+     * Returned rows bypass second-level cache, the stale entry is evicted after commit by {@code TaskChanged} event
+     *
+     * @param id              task identifier
+     * @param status          new status
+     * @param expectedStatus  current status expected by the client, empty string - any status
+     * @param expectedVersion current version expected by the client, negative - any version
+     * @param profileId       authorized profile identifier
+     * @return updated task, empty - if the condition failed
+     */
+    @Query(
+            value = "UPDATE task SET status = :status, version = version + 1 " +
+                    "WHERE id = :id " +
+                    "AND (:expectedStatus = '' OR status = :expectedStatus) " +
+                    "AND (:expectedVersion < 0 OR version = :expectedVersion) " +
+                    "AND (author_id = :profileId OR executor_id = :profileId) " +
+                    "RETURNING id, label, description, status, priority, author_id, executor_id, version",
+            nativeQuery = true
+    )
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Transactional
+    List<Task> compareAndSetStatus(
+            @Param("id") UUID id,
+            @Param("status") String status,
+            @Param("expectedStatus") String expectedStatus,
+            @Param("expectedVersion") long expectedVersion,
+            @Param("profileId") UUID profileId
+    );
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
 
     Boolean existsByAuthorId(UUID authorId);
-    Boolean existsByExecutorId(UUID authorId);
+
+    /**
+     * Ranked full text search, ranks are sorted descending and identifier is the tiebreaker.
+     * Matched comments add their task with half of the comment rank.
+     * Headlines are built only for the rows of the page
+     *
+     * @param query           search query in web search syntax
+     * @param includeComments searching in comments too
+     * @param afterRank       rank of the last row of the previous page, Infinity - first page
+     * @param afterId         identifier of the last row of the previous page
+     * @param limit           count of rows
+     * @return found tasks
+     */
+    @Query(
+            value = "WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS tsq), " +
+                    "hits AS (" +
+                    "SELECT t.id, ts_rank(t.search_vector, q.tsq) AS rank " +
+                    "FROM task t, q WHERE t.search_vector @@ q.tsq " +
+                    "UNION ALL " +
+                    "SELECT c.task_id, ts_rank(c.search_vector, q.tsq) * 0.5 " +
+                    "FROM task_comment c, q WHERE :includeComments AND c.search_vector @@ q.tsq" +
+                    "), " +
+                    "page AS (" +
+                    "SELECT id, CAST(max(rank) AS REAL) AS rank FROM hits GROUP BY id " +
+                    "HAVING CAST(max(rank) AS REAL) < CAST(:afterRank AS REAL) " +
+                    "OR (CAST(max(rank) AS REAL) = CAST(:afterRank AS REAL) AND id > :afterId) " +
+                    "ORDER BY rank DESC, id LIMIT :limit" +
+                    ") " +
+                    "SELECT t.id AS \"id\", t.label AS \"label\", t.description AS \"description\", " +
+                    "t.status AS \"status\", t.priority AS \"priority\", " +
+                    "t.author_id AS \"authorId\", t.executor_id AS \"executorId\", p.rank AS \"rank\", " +
+                    "ts_headline('simple', t.label, q.tsq) AS \"labelHeadline\", " +
+                    "ts_headline('simple', coalesce(t.description, ''), q.tsq, " +
+                    "'MaxFragments=2, MinWords=5, MaxWords=20') AS \"descriptionHeadline\" " +
+                    "FROM page p JOIN task t ON t.id = p.id, q " +
+                    "ORDER BY p.rank DESC, p.id",
+            nativeQuery = true
+    )
+    List<TaskSearchHitView> searchFullText(
+            @Param("query") String query,
+            @Param("includeComments") boolean includeComments,
+            @Param("afterRank") float afterRank,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,13 @@
+package org.example.taskmanager.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Identifier and version of an entity, enough to build its entity tag
+ */
+public interface EntityVersionView {
+
+    UUID getId();
+
+    Long getVersion();
+}
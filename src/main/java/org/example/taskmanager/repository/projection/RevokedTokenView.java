@@ -0,0 +1,11 @@
+package org.example.taskmanager.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RevokedTokenView {
+
+    UUID getId();
+
+    Instant getExpiresAt();
+}
@@ -0,0 +1,26 @@
+package org.example.taskmanager.repository.projection;
+
+import java.util.UUID;
+
+public interface TaskSearchHitView {
+
+    UUID getId();
+
+    String getLabel();
+
+    String getDescription();
+
+    String getStatus();
+
+    String getPriority();
+
+    UUID getAuthorId();
+
+    UUID getExecutorId();
+
+    Float getRank();
+
+    String getLabelHeadline();
+
+    String getDescriptionHeadline();
+}
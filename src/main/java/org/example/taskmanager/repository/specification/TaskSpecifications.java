@@ -0,0 +1,91 @@
+package org.example.taskmanager.repository.specification;
+
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Task query predicates, only the predicates of passed filters are added to SQL
+ */
+public final class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> authorIs(UUID authorId) {
+        return (root, query, cb) -> cb.equal(root.get("authorId"), authorId);
+    }
+
+    public static Specification<Task> executorIs(UUID executorId) {
+        return (root, query, cb) -> cb.equal(root.get("executorId"), executorId);
+    }
+
+    public static Specification<Task> statusIs(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Collection<TaskPriority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    /**
+     * Not completed tasks
+     *
+     * @return predicate
+     */
+    public static Specification<Task> isActive() {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), TaskStatus.COMPLETED);
+    }
+
+    public static Specification<Task> labelStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("label"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    /**
+     * Seek predicate of keyset pagination sorted by identifier
+     *
+     * @param id identifier of the last row of the previous page
+     * @return predicate
+     */
+    public static Specification<Task> idAfter(UUID id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Seek predicate of keyset pagination sorted by label and identifier
+     *
+     * @param label label of the last row of the previous page
+     * @param id    identifier of the last row of the previous page
+     * @return predicate
+     */
+    public static Specification<Task> labelAfter(String label, UUID id) {
+        return (root, query, cb) -> cb.and(
+                // redundant bound lets the planner use label index range scan
+                cb.greaterThanOrEqualTo(root.get("label"), label),
+                cb.or(
+                        cb.greaterThan(root.get("label"), label),
+                        cb.and(
+                                cb.equal(root.get("label"), label),
+                                cb.greaterThan(root.get("id"), id)
+                        )
+                )
+        );
+    }
+
+    static String escapeLike(String value) {
+        return value
+                .replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.taskmanager.search;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map of long keys to non-negative int values on primitive arrays, collisions are resolved
+ * by linear probing. Entries are never removed, the owner drops the whole map instead.
+ * Not thread safe
+ */
+final class LongIntMap {
+
+    static final int ABSENT = -1;
+
+    private long[] keys;
+    /**
+     * Values of entries, {@link #ABSENT} - empty entry
+     */
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntMap(int expectedSize) {
+        allocate(UuidIntMap.capacityFor(expectedSize));
+    }
+
+    /**
+     * @param key key
+     * @return value, {@link #ABSENT} - if there is no key
+     */
+    int get(long key) {
+        for (int i = mix(key) & mask; values[i] != ABSENT; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * @param key   key
+     * @param value non-negative value
+     */
+    void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("%d - value must not be negative", value));
+        }
+        if ((size + 1) * 4L > values.length * 3L) {
+            rehash(values.length * 2);
+        }
+        insert(key, value);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void insert(long key, int value) {
+        var i = mix(key) & mask;
+        while (values[i] != ABSENT) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != ABSENT) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, ABSENT);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    /**
+     * Spreading key bits over the low bits used as table index (murmur3 finalizer)
+     */
+    static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe1a85ec3L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
@@ -0,0 +1,418 @@
+package org.example.taskmanager.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead index of task labels scoped by profile (author or executor of the task).
+ * Tasks are stored in slots of primitive arrays, posting lists of trigrams and profiles are int arrays of slots.
+ * Task identifiers, profile identifiers and trigrams are looked up in open-addressing primitive tables.
+ * Updated and removed tasks leave dead slots, which are verified out on query and dropped by compaction.
+ * The index is thread safe: queries share a read lock, updates take a write lock
+ */
+public class TaskLabelIndex {
+
+    private static final int MIN_COMPACTION_DEAD_SLOTS = 1024;
+    private static final int NO_PROFILE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] idMostBits;
+    private long[] idLeastBits;
+    /**
+     * Original labels, null - dead slot
+     */
+    private String[] labels;
+    private String[] normalizedLabels;
+    private int[] authorOrdinals;
+    private int[] executorOrdinals;
+    private int slotCount;
+    private int deadSlotCount;
+
+    private UuidIntMap slotByTaskId;
+    private UuidIntMap profileOrdinals;
+    /**
+     * Profile identifiers by ordinal
+     */
+    private long[] profileMostBits;
+    private long[] profileLeastBits;
+    private List<IntList> profilePostings;
+    /**
+     * Trigram to index of its posting list
+     */
+    private LongIntMap trigramPostingIndexes;
+    private List<IntList> trigramPostings;
+
+    public TaskLabelIndex(int initialCapacity) {
+        init(Math.max(initialCapacity, 16));
+    }
+
+    /**
+     * Adding or replacing task, a task indexed with the same label and profiles is left as is
+     * (status changes don't take the write lock and don't leave dead slots)
+     *
+     * @param taskId     task identifier
+     * @param label      task label
+     * @param authorId   task author identifier
+     * @param executorId task executor identifier, may be null
+     */
+    public void put(UUID taskId, String label, UUID authorId, UUID executorId) {
+        lock.readLock().lock();
+        try {
+            if (isIndexed(taskId, label, authorId, executorId)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (isIndexed(taskId, label, authorId, executorId)) {
+                return;
+            }
+            killSlot(slotByTaskId.remove(taskId));
+            addSlot(taskId, label, authorId, executorId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removing task
+     *
+     * @param taskId task identifier
+     */
+    public void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            killSlot(slotByTaskId.remove(taskId));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removing profile from executors of all its tasks
+     *
+     * @param profileId profile identifier
+     */
+    public void removeExecutor(UUID profileId) {
+        lock.writeLock().lock();
+        try {
+            var ordinal = profileOrdinals.get(profileId);
+            if (ordinal == UuidIntMap.ABSENT) {
+                return;
+            }
+            var posting = profilePostings.get(ordinal);
+            for (int i = 0; i < posting.size; i++) {
+                var slot = posting.values[i];
+                if (executorOrdinals[slot] == ordinal) {
+                    executorOrdinals[slot] = NO_PROFILE;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finding labels of profile's tasks containing the query.
+     * Label prefix matches go first, then word prefix matches, then other matches, shorter labels first
+     *
+     * @param profileId profile identifier, author or executor of found tasks
+     * @param query     searched part of label
+     * @param limit     maximum count of suggestions
+     * @return suggestions
+     */
+    public List<Suggestion> suggest(UUID profileId, String query, int limit) {
+        var normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            var ordinal = profileOrdinals.get(profileId);
+            if (ordinal == UuidIntMap.ABSENT) {
+                return List.of();
+            }
+            var candidates = selectCandidates(profilePostings.get(ordinal), normalizedQuery);
+            if (candidates == null) {
+                return List.of();
+            }
+
+            var matchedSlots = new IntList(Math.min(candidates.size, 64));
+            var matchedScores = new IntList(Math.min(candidates.size, 64));
+            for (int i = 0; i < candidates.size; i++) {
+                var slot = candidates.values[i];
+                if (labels[slot] == null ||
+                        (authorOrdinals[slot] != ordinal && executorOrdinals[slot] != ordinal)) {
+                    continue;
+                }
+                var score = score(normalizedLabels[slot], normalizedQuery);
+                if (score >= 0) {
+                    matchedSlots.add(slot);
+                    matchedScores.add(score);
+                }
+            }
+            return topSuggestions(matchedSlots, matchedScores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return count of indexed tasks
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByTaskId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return count of dead slots waiting for compaction
+     */
+    int deadSlotCount() {
+        lock.readLock().lock();
+        try {
+            return deadSlotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isIndexed(UUID taskId, String label, UUID authorId, UUID executorId) {
+        var slot = slotByTaskId.get(taskId);
+        if (slot == UuidIntMap.ABSENT || labels[slot] == null || !labels[slot].equals(label)) {
+            return false;
+        }
+        if (profileOrdinals.get(authorId) != authorOrdinals[slot]) {
+            return false;
+        }
+        if (executorId == null) {
+            return executorOrdinals[slot] == NO_PROFILE;
+        }
+        var executorOrdinal = profileOrdinals.get(executorId);
+        return executorOrdinal != UuidIntMap.ABSENT && executorOrdinal == executorOrdinals[slot];
+    }
+
+    /**
+     * Choosing the shortest posting list: profile's tasks or tasks with the rarest trigram of the query
+     *
+     * @return candidate slots, null - if the query has a trigram which no label has
+     */
+    private IntList selectCandidates(IntList profilePosting, String normalizedQuery) {
+        var candidates = profilePosting;
+        for (int i = 0; i + 3 <= normalizedQuery.length(); i++) {
+            var postingIndex = trigramPostingIndexes.get(trigram(normalizedQuery, i));
+            if (postingIndex == LongIntMap.ABSENT) {
+                return null;
+            }
+            var posting = trigramPostings.get(postingIndex);
+            if (posting.size < candidates.size) {
+                candidates = posting;
+            }
+        }
+        return candidates;
+    }
+
+    private List<Suggestion> topSuggestions(IntList slots, IntList scores, int limit) {
+        var order = new Integer[slots.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            var byScore = Integer.compare(scores.values[a], scores.values[b]);
+            if (byScore != 0) return byScore;
+            var byLength = Integer.compare(labels[slots.values[a]].length(), labels[slots.values[b]].length());
+            if (byLength != 0) return byLength;
+            return labels[slots.values[a]].compareTo(labels[slots.values[b]]);
+        });
+
+        var result = new ArrayList<Suggestion>(Math.min(limit, order.length));
+        for (int i = 0; i < order.length && i < limit; i++) {
+            var slot = slots.values[order[i]];
+            result.add(new Suggestion(new UUID(idMostBits[slot], idLeastBits[slot]), labels[slot]));
+        }
+        return result;
+    }
+
+    /**
+     * @return 0 - label prefix match, 1 - word prefix match, 2 - other match, -1 - no match
+     */
+    private static int score(String normalizedLabel, String normalizedQuery) {
+        var position = normalizedLabel.indexOf(normalizedQuery);
+        if (position < 0) return -1;
+        if (position == 0) return 0;
+        while (position > 0) {
+            if (!Character.isLetterOrDigit(normalizedLabel.charAt(position - 1))) return 1;
+            position = normalizedLabel.indexOf(normalizedQuery, position + 1);
+        }
+        return 2;
+    }
+
+    private void addSlot(UUID taskId, String label, UUID authorId, UUID executorId) {
+        ensureCapacity(slotCount + 1);
+        var slot = slotCount++;
+        var normalizedLabel = normalize(label);
+        idMostBits[slot] = taskId.getMostSignificantBits();
+        idLeastBits[slot] = taskId.getLeastSignificantBits();
+        labels[slot] = label;
+        // labels which are already normalized are not stored twice
+        normalizedLabels[slot] = normalizedLabel.equals(label) ? label : normalizedLabel;
+        authorOrdinals[slot] = profileOrdinal(authorId);
+        executorOrdinals[slot] = executorId == null ? NO_PROFILE : profileOrdinal(executorId);
+        slotByTaskId.put(taskId, slot);
+
+        profilePostings.get(authorOrdinals[slot]).add(slot);
+        if (executorOrdinals[slot] != NO_PROFILE && executorOrdinals[slot] != authorOrdinals[slot]) {
+            profilePostings.get(executorOrdinals[slot]).add(slot);
+        }
+
+        var trigrams = new long[Math.max(normalizedLabel.length() - 2, 0)];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = trigram(normalizedLabel, i);
+        }
+        Arrays.sort(trigrams);
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i > 0 && trigrams[i] == trigrams[i - 1]) continue;
+            var postingIndex = trigramPostingIndexes.get(trigrams[i]);
+            if (postingIndex == LongIntMap.ABSENT) {
+                postingIndex = trigramPostings.size();
+                trigramPostingIndexes.put(trigrams[i], postingIndex);
+                trigramPostings.add(new IntList(4));
+            }
+            trigramPostings.get(postingIndex).add(slot);
+        }
+    }
+
+    private void killSlot(int slot) {
+        if (slot == UuidIntMap.ABSENT) return;
+        labels[slot] = null;
+        normalizedLabels[slot] = null;
+        deadSlotCount++;
+    }
+
+    private int profileOrdinal(UUID profileId) {
+        var ordinal = profileOrdinals.get(profileId);
+        if (ordinal != UuidIntMap.ABSENT) {
+            return ordinal;
+        }
+        ordinal = profilePostings.size();
+        if (ordinal == profileMostBits.length) {
+            profileMostBits = Arrays.copyOf(profileMostBits, ordinal + (ordinal >> 1) + 1);
+            profileLeastBits = Arrays.copyOf(profileLeastBits, profileMostBits.length);
+        }
+        profileMostBits[ordinal] = profileId.getMostSignificantBits();
+        profileLeastBits[ordinal] = profileId.getLeastSignificantBits();
+        profileOrdinals.put(profileId, ordinal);
+        profilePostings.add(new IntList(4));
+        return ordinal;
+    }
+
+    /**
+     * Rebuilding postings without dead slots once they outnumber live ones
+     */
+    private void compactIfNeeded() {
+        if (deadSlotCount < MIN_COMPACTION_DEAD_SLOTS || deadSlotCount < slotCount - deadSlotCount) {
+            return;
+        }
+        var oldIdMostBits = idMostBits;
+        var oldIdLeastBits = idLeastBits;
+        var oldLabels = labels;
+        var oldAuthorOrdinals = authorOrdinals;
+        var oldExecutorOrdinals = executorOrdinals;
+        var oldSlotCount = slotCount;
+        var ordinalProfiles = new UUID[profilePostings.size()];
+        for (int ordinal = 0; ordinal < ordinalProfiles.length; ordinal++) {
+            ordinalProfiles[ordinal] = new UUID(profileMostBits[ordinal], profileLeastBits[ordinal]);
+        }
+
+        init(oldSlotCount - deadSlotCount);
+        for (int slot = 0; slot < oldSlotCount; slot++) {
+            if (oldLabels[slot] == null) continue;
+            addSlot(
+                    new UUID(oldIdMostBits[slot], oldIdLeastBits[slot]),
+                    oldLabels[slot],
+                    ordinalProfiles[oldAuthorOrdinals[slot]],
+                    oldExecutorOrdinals[slot] == NO_PROFILE ? null : ordinalProfiles[oldExecutorOrdinals[slot]]
+            );
+        }
+    }
+
+    private void init(int capacity) {
+        idMostBits = new long[capacity];
+        idLeastBits = new long[capacity];
+        labels = new String[capacity];
+        normalizedLabels = new String[capacity];
+        authorOrdinals = new int[capacity];
+        executorOrdinals = new int[capacity];
+        slotCount = 0;
+        deadSlotCount = 0;
+        slotByTaskId = new UuidIntMap(capacity);
+        profileOrdinals = new UuidIntMap(16);
+        profileMostBits = new long[16];
+        profileLeastBits = new long[16];
+        profilePostings = new ArrayList<>();
+        trigramPostingIndexes = new LongIntMap(1024);
+        trigramPostings = new ArrayList<>();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= labels.length) return;
+        var newCapacity = Math.max(capacity, labels.length + (labels.length >> 1));
+        idMostBits = Arrays.copyOf(idMostBits, newCapacity);
+        idLeastBits = Arrays.copyOf(idLeastBits, newCapacity);
+        labels = Arrays.copyOf(labels, newCapacity);
+        normalizedLabels = Arrays.copyOf(normalizedLabels, newCapacity);
+        authorOrdinals = Arrays.copyOf(authorOrdinals, newCapacity);
+        executorOrdinals = Arrays.copyOf(executorOrdinals, newCapacity);
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Growable int array
+     */
+    private static final class IntList {
+
+        private int[] values;
+        private int size;
+
+        private IntList(int capacity) {
+            values = new int[capacity];
+        }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1) + 1);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Typeahead suggestion
+     *
+     * @param taskId task identifier
+     * @param label  task label
+     */
+    public record Suggestion(UUID taskId, String label) {
+    }
+}
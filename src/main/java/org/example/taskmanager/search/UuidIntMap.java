@@ -0,0 +1,144 @@
+package org.example.taskmanager.search;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Open-addressing map of UUID keys to non-negative int values on primitive arrays.
+ * Keys are stored as two long arrays, collisions are resolved by linear probing,
+ * removal shifts the following entries back, so the table has no tombstones.
+ * Not thread safe
+ */
+final class UuidIntMap {
+
+    static final int ABSENT = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostBits;
+    private long[] leastBits;
+    /**
+     * Values of entries, {@link #ABSENT} - empty entry
+     */
+    private int[] values;
+    private int mask;
+    private int size;
+
+    UuidIntMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param key key
+     * @return value, {@link #ABSENT} - if there is no key
+     */
+    int get(UUID key) {
+        var most = key.getMostSignificantBits();
+        var least = key.getLeastSignificantBits();
+        for (int i = index(most, least); values[i] != ABSENT; i = (i + 1) & mask) {
+            if (mostBits[i] == most && leastBits[i] == least) {
+                return values[i];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * @param key   key
+     * @param value non-negative value
+     */
+    void put(UUID key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("%d - value must not be negative", value));
+        }
+        if ((size + 1) * 4L > values.length * 3L) {
+            rehash(values.length * 2);
+        }
+        insert(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * @param key key
+     * @return removed value, {@link #ABSENT} - if there was no key
+     */
+    int remove(UUID key) {
+        var most = key.getMostSignificantBits();
+        var least = key.getLeastSignificantBits();
+        var gap = index(most, least);
+        while (values[gap] != ABSENT && (mostBits[gap] != most || leastBits[gap] != least)) {
+            gap = (gap + 1) & mask;
+        }
+        var removed = values[gap];
+        if (removed == ABSENT) {
+            return ABSENT;
+        }
+        // entries of the probe sequence after the gap move back unless their home is between the gap and them
+        for (int i = (gap + 1) & mask; values[i] != ABSENT; i = (i + 1) & mask) {
+            var home = index(mostBits[i], leastBits[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                mostBits[gap] = mostBits[i];
+                leastBits[gap] = leastBits[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = ABSENT;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void insert(long most, long least, int value) {
+        var i = index(most, least);
+        while (values[i] != ABSENT) {
+            if (mostBits[i] == most && leastBits[i] == least) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        mostBits[i] = most;
+        leastBits[i] = least;
+        values[i] = value;
+        size++;
+    }
+
+    private void rehash(int capacity) {
+        var oldMostBits = mostBits;
+        var oldLeastBits = leastBits;
+        var oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != ABSENT) {
+                insert(oldMostBits[i], oldLeastBits[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostBits = new long[capacity];
+        leastBits = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, ABSENT);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private int index(long most, long least) {
+        return LongIntMap.mix(most ^ Long.rotateLeft(least, 32)) & mask;
+    }
+
+    /**
+     * @return power of two keeping the load factor under 3/4
+     */
+    static int capacityFor(int expectedSize) {
+        var capacity = MIN_CAPACITY;
+        while (capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
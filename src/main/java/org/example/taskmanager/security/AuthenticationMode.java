@@ -0,0 +1,18 @@
+package org.example.taskmanager.security;
+
+/**
+ * The way an authenticated principal is built from a verified access token
+ */
+public enum AuthenticationMode {
+
+    /**
+     * Principal is loaded from the profile repository (through principal cache),
+     * profile changes are visible to the next request
+     */
+    DATABASE,
+    /**
+     * Principal is built from token claims only, no repository access on the request path.
+     * Profile changes are visible only after the access token is reissued, keep access lifetime short
+     */
+    CLAIMS
+}
@@ -7,8 +7,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.service.auth.JwtService;
 import org.example.taskmanager.util.ProfileUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,8 +19,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.logging.Logger;
 
+import static org.example.taskmanager.util.SecurityConfigurationConstraint.PERMITTED_ALL;
+import static org.example.taskmanager.util.SecurityConfigurationConstraint.TOKEN_REQUIRED;
+
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
@@ -27,8 +33,20 @@ public class JwtFilter extends OncePerRequestFilter {
 
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String HEADER_NAME = "Authorization";
+    @Value("${token.access.mode}")
+    private AuthenticationMode authenticationMode;
+
     private final JwtService jwtService;
     private final ProfileUtil profileService;
+    private final PublicRouteClassifier publicRouteClassifier = new PublicRouteClassifier(PERMITTED_ALL, TOKEN_REQUIRED);
+
+    /**
+     * Public routes don't need the principal, so their tokens are not verified at all
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRouteClassifier.isPublic(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -37,28 +55,38 @@ public class JwtFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
         var authHeader = request.getHeader(HEADER_NAME);
-        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+        if (authHeader == null ||
+                !authHeader.startsWith(BEARER_PREFIX) ||
+                SecurityContextHolder.getContext().getAuthentication() != null
+        ) {
             filterChain.doFilter(request, response);
             return;
         }
 
         var jwt = authHeader.substring(BEARER_PREFIX.length());
-        var userLogin = jwtService.extractUserLogin(jwt);
 
         try {
-            if (!userLogin.isEmpty() &&
-                    SecurityContextHolder.getContext().getAuthentication() == null &&
-                    jwtService.validateAccessToken(jwt)
-            ) {
-                UserDetails userDetails = profileService
-                        .userDetailsService()
-                        .loadUserByUsername(userLogin);
+            var claims = jwtService.verifyAccessToken(jwt);
+            var userLogin = claims.getSubject();
+            if (userLogin != null && !userLogin.isEmpty()) {
+                UserDetails userDetails = null;
+                Collection<? extends GrantedAuthority> authorities = null;
+                if (authenticationMode == AuthenticationMode.CLAIMS) {
+                    userDetails = jwtService.extractPrincipal(claims);
+                    authorities = jwtService.extractAuthorities(claims);
+                }
+                if (userDetails == null) {
+                    userDetails = profileService
+                            .userDetailsService()
+                            .loadUserByUsername(userLogin);
+                    authorities = userDetails.getAuthorities();
+                }
                 SecurityContext context = SecurityContextHolder.createEmptyContext();
 
                 var authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
-                        userDetails.getAuthorities()
+                        authorities
                 );
 
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
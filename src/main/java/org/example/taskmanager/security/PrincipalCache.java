@@ -0,0 +1,105 @@
+package org.example.taskmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.taskmanager.entity.Profile;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.invalidation.InvalidationListener;
+import org.example.taskmanager.repository.ProfileDAO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Bounded TTL cache of authenticated principals, shared by the security filter and authorization checks.
+ * Principals are cached as immutable snapshots, profile entities never leave the persistence context.
+ * Entries are evicted on every node through {@link InvalidationEvent.ProfileChanged}
+ */
+@Component
+public class PrincipalCache implements InvalidationListener {
+
+    private final ProfileDAO profileDAO;
+    private final Cache<String, PrincipalSnapshot> byEmail;
+    private final Cache<UUID, PrincipalSnapshot> byId;
+
+    public PrincipalCache(
+            ProfileDAO profileDAO,
+            MeterRegistry meterRegistry,
+            @Value("${principal.cache.maximum-size}") long maximumSize,
+            @Value("${principal.cache.ttl}") Duration ttl
+    ) {
+        this.profileDAO = profileDAO;
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // email entry follows its id entry out, so evicting by id finds every cached email
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((UUID id, PrincipalSnapshot principal, RemovalCause cause) -> {
+                    if (principal != null) byEmail.invalidate(principal.email());
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "principal.byEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "principal.byId");
+    }
+
+    /**
+     * Getting principal by email, absent profiles are not cached
+     *
+     * @param email profile email
+     * @return principal or null
+     */
+    public PrincipalSnapshot getByEmail(String email) {
+        var principal = byEmail.get(email, key -> snapshot(profileDAO.findByEmail(key)));
+        if (principal != null) byId.put(principal.id(), principal);
+        return principal;
+    }
+
+    /**
+     * Getting principal by id, absent profiles are not cached
+     *
+     * @param id profile identifier
+     * @return principal or null
+     */
+    public PrincipalSnapshot getById(UUID id) {
+        var principal = byId.get(id, key -> profileDAO.findById(key).map(PrincipalSnapshot::of).orElse(null));
+        if (principal != null) byEmail.put(principal.email(), principal);
+        return principal;
+    }
+
+    /**
+     * Evicting principal by id and by its email
+     *
+     * @param profileId profile identifier
+     */
+    public void evict(UUID profileId) {
+        var principal = byId.asMap().remove(profileId);
+        if (principal != null) byEmail.invalidate(principal.email());
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (event instanceof InvalidationEvent.ProfileChanged profileChanged) {
+            evict(profileChanged.profileId());
+        }
+    }
+
+    @Override
+    public void onResync() {
+        byId.invalidateAll();
+        byEmail.invalidateAll();
+    }
+
+    private static PrincipalSnapshot snapshot(Profile profile) {
+        return profile == null ? null : PrincipalSnapshot.of(profile);
+    }
+}
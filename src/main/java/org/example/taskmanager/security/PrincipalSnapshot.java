@@ -0,0 +1,72 @@
+package org.example.taskmanager.security;
+
+import org.example.taskmanager.entity.Profile;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable principal detached from the persistence context, safe to share between request threads
+ *
+ * @param id           profile identifier
+ * @param email        profile email, used as username
+ * @param passwordHash encoded password, null - for principals built from token claims
+ * @param active       profile activity
+ */
+public record PrincipalSnapshot(UUID id, String email, String passwordHash, boolean active) implements UserDetails {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("User"));
+
+    public static PrincipalSnapshot of(Profile profile) {
+        return new PrincipalSnapshot(
+                profile.getId(),
+                profile.getEmail(),
+                profile.getPassword(),
+                Boolean.TRUE.equals(profile.getIsActive())
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return active;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return active;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return active;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PrincipalSnapshot[id=%s, email=%s, active=%s]", id, email, active);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.taskmanager.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Route classifier with precompiled path patterns, used to skip token processing for public routes
+ */
+public class PublicRouteClassifier {
+
+    private final List<PathPattern> publicPatterns;
+    private final List<PathPattern> tokenRequiredPatterns;
+
+    /**
+     * @param publicRoutes        public route patterns
+     * @param tokenRequiredRoutes route patterns which match public patterns but still need token processing
+     */
+    public PublicRouteClassifier(String[] publicRoutes, String[] tokenRequiredRoutes) {
+        this.publicPatterns = compile(publicRoutes);
+        this.tokenRequiredPatterns = compile(tokenRequiredRoutes);
+    }
+
+    /**
+     * Checking request route for being public
+     *
+     * @param request http request
+     * @return true - if the token of the request must not be processed
+     */
+    public boolean isPublic(HttpServletRequest request) {
+        var uri = request.getRequestURI();
+        var contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)) {
+            uri = uri.substring(contextPath.length());
+        }
+        return isPublic(uri);
+    }
+
+    /**
+     * Checking route for being public
+     *
+     * @param path route path without context path
+     * @return true - if the token of the request must not be processed
+     */
+    public boolean isPublic(String path) {
+        var pathContainer = PathContainer.parsePath(path);
+        return matches(publicPatterns, pathContainer) && !matches(tokenRequiredPatterns, pathContainer);
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (var pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> compile(String[] routes) {
+        var parser = new PathPatternParser();
+        return Arrays.stream(routes)
+                .map(parser::parse)
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.taskmanager.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.invalidation.InvalidationListener;
+import org.example.taskmanager.repository.JwtDAO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * In-process store of revoked token identifiers (jti).
+ * Lookups go through a Bloom filter first, so the common "not revoked" answer costs a few bit reads,
+ * positives are confirmed by the exact set. Entries live until the revoked token would have expired anyway.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore implements InvalidationListener {
+
+    private static final Logger LOGGER = Logger.getLogger(TokenRevocationStore.class.getName());
+
+    @Value("${token.access.lifetime}")
+    private Duration accessLifetime;
+    @Value("${token.refresh.lifetime}")
+    private Duration refreshLifetime;
+    @Value("${token.revocation.expected-revocations}")
+    private long expectedRevocations;
+    @Value("${token.revocation.false-positive-probability}")
+    private double falsePositiveProbability;
+
+    private final JwtDAO jwtDAO;
+
+    /**
+     * jti -> epoch millis after which the revoked token is expired and the entry is useless
+     */
+    private final ConcurrentHashMap<UUID, Long> revoked = new ConcurrentHashMap<>();
+    private volatile UuidBloomFilter filter;
+
+    /**
+     * Restoring revoked tokens which are not expired yet from the token repository
+     */
+    @PostConstruct
+    public void rebuild() {
+        var tokens = jwtDAO.findByRevokedAtIsNotNullAndExpiresAtAfter(Instant.now());
+        tokens.forEach(it -> revoked.put(it.getId(), it.getExpiresAt().toEpochMilli()));
+        rebuildFilter();
+        LOGGER.info(String.format("Token revocation store restored with %d entries", tokens.size()));
+    }
+
+    /**
+     * Revoking tokens, the tokens are rejected right after the call.
+     * Use {@link org.example.taskmanager.invalidation.InvalidationBus} to revoke tokens on every node
+     *
+     * @param tokenIds token identifiers (jti)
+     */
+    public synchronized void revoke(Collection<UUID> tokenIds) {
+        var expiresAt = Instant.now().plus(getMaxLifetime()).toEpochMilli();
+        for (var tokenId : tokenIds) {
+            revoked.put(tokenId, expiresAt);
+            filter.put(tokenId);
+        }
+    }
+
+    /**
+     * Checking token for revocation
+     *
+     * @param tokenId token identifier (jti)
+     * @return true - if token is revoked
+     */
+    public boolean isRevoked(UUID tokenId) {
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        var expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Dropping entries of expired tokens, Bloom filter can't delete keys, so it is rebuilt
+     */
+    @Scheduled(fixedDelayString = "${token.revocation.cleanup-interval}")
+    public synchronized void evictExpired() {
+        var now = System.currentTimeMillis();
+        var sizeBefore = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        rebuildFilter();
+        LOGGER.fine(String.format("Token revocation store: %d expired entries evicted", sizeBefore - revoked.size()));
+    }
+
+    private synchronized void rebuildFilter() {
+        var newFilter = new UuidBloomFilter(
+                Math.max(expectedRevocations, 2L * revoked.size()),
+                falsePositiveProbability
+        );
+        revoked.keySet().forEach(newFilter::put);
+        filter = newFilter;
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (event instanceof InvalidationEvent.TokensRevoked tokensRevoked) {
+            revoke(tokensRevoked.tokenIds());
+        }
+    }
+
+    @Override
+    public void onResync() {
+        rebuild();
+    }
+
+    private Duration getMaxLifetime() {
+        return accessLifetime.compareTo(refreshLifetime) > 0 ? accessLifetime : refreshLifetime;
+    }
+}
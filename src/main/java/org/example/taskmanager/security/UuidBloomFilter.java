@@ -0,0 +1,63 @@
+package org.example.taskmanager.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over UUID keys. False positives are possible, false negatives are not,
+ * so a negative answer can be trusted without consulting the exact set.
+ */
+class UuidBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    UuidBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        var insertions = Math.max(1, expectedInsertions);
+        var size = (long) (-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        var words = (int) Math.max(1, (size + Long.SIZE - 1) / Long.SIZE);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    }
+
+    void put(UUID key) {
+        var h1 = mix(key.getMostSignificantBits());
+        var h2 = mix(key.getLeastSignificantBits() ^ h1);
+        for (int i = 0; i < hashCount; i++) {
+            var index = Math.floorMod(h1 + i * h2, bitSize);
+            var word = (int) (index >>> 6);
+            var mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) break;
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(UUID key) {
+        var h1 = mix(key.getMostSignificantBits());
+        var h2 = mix(key.getLeastSignificantBits() ^ h1);
+        for (int i = 0; i < hashCount; i++) {
+            var index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit finalizer of MurmurHash3
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb3fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -2,14 +2,14 @@ package org.example.taskmanager.service.auth;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.example.taskmanager.api.enums.JwtType;
 import org.example.taskmanager.api.request.auth.SignInRequest;
 import org.example.taskmanager.api.request.auth.SignUpRequest;
 import org.example.taskmanager.api.response.JwtAuthenticationResponse;
 import org.example.taskmanager.api.response.ProfileResponse;
 import org.example.taskmanager.entity.Profile;
-import org.example.taskmanager.exception.ExpectedEntityNotFoundException;
 import org.example.taskmanager.repository.ProfileDAO;
+import org.example.taskmanager.security.PrincipalSnapshot;
+import org.example.taskmanager.util.IdGenerator;
 import org.example.taskmanager.util.JwtUtil;
 import org.example.taskmanager.util.PasswordUtil;
 import org.example.taskmanager.util.ProfileUtil;
@@ -17,7 +17,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
 import java.util.logging.Logger;
 
 @Service
@@ -32,6 +31,7 @@ public class AuthenticationService {
     private final ProfileUtil profileUtil;
     private final JwtUtil jwtUtil;
     private final PasswordUtil passwordUtil;
+    private final IdGenerator idGenerator;
 
     /**
      * Profile sign-up
@@ -41,13 +41,13 @@ public class AuthenticationService {
      */
     @Transactional
     public ProfileResponse signUp(SignUpRequest request) {
-        return profileUtil.convertToResponse(profileDAO.save(new Profile(
-                UUID.randomUUID(),
-                request.getName(),
-                request.getEmail(),
-                passwordUtil.getEncodedPassword(request.getPassword()),
-                true
-        )));
+        return profileUtil.convertToResponse(profileDAO.save(Profile.builder()
+                .id(idGenerator.nextId())
+                .name(request.getName())
+                .email(request.getEmail())
+                .password(passwordUtil.getEncodedPassword(request.getPassword()))
+                .isActive(true)
+                .build()));
     }
 
     /**
@@ -58,31 +58,14 @@ public class AuthenticationService {
      */
     @Transactional
     public JwtAuthenticationResponse signIn(SignInRequest request) {
-
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+        var principal = (PrincipalSnapshot) authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
                 request.getEmail(),
                 request.getPassword()
-        ));
-
-        var userDetails = profileUtil
-                .userDetailsService()
-                .loadUserByUsername(request.getEmail());
-        var profileEntity = profileDAO.findByEmail(request.getEmail());
-
-        jwtService.deleteProfileToken(profileEntity.getId());
+        )).getPrincipal();
 
-        var accessJwt = jwtService.registerToken(
-                profileEntity.getId(),
-                jwtService.generateAccessToken(userDetails),
-                JwtType.ACCESS
-        );
-        var refreshJwt = jwtService.registerToken(
-                profileEntity.getId(),
-                jwtService.generateRefreshToken(userDetails),
-                JwtType.REFRESH
-        );
+        jwtService.deleteProfileToken(principal.id());
 
-        return new JwtAuthenticationResponse(accessJwt, refreshJwt);
+        return jwtService.registerTokens(principal);
     }
 
     /**
@@ -93,8 +76,10 @@ public class AuthenticationService {
     @Transactional
     public Boolean invalidateToken() {
         var profile = jwtUtil.checkForExistedProfileProfileOrAccessDenied();
+        if (profile == null) return false;
 
-        return profile != null && jwtService.deleteProfileToken(profile.getId());
+        jwtService.deleteProfileToken(profile.id());
+        return true;
     }
 
     /**
@@ -105,32 +90,13 @@ public class AuthenticationService {
      */
     @Transactional
     public JwtAuthenticationResponse refreshTokens(String refreshToken) {
-        jwtService.validateRefreshToken(refreshToken);
-        var userLogin = jwtService.extractRefreshUserLogin(refreshToken);
-        var userDetails = profileUtil
+        var userLogin = jwtService.verifyRefreshToken(refreshToken).getSubject();
+        var principal = (PrincipalSnapshot) profileUtil
                 .userDetailsService()
                 .loadUserByUsername(userLogin);
 
-        var profile = profileDAO.findByEmail(userLogin);
-
-        // TODO('implement to checker class')
-        checkProfileForExistByEmail(userLogin);
-
-        jwtService.deleteProfileToken(profile.getId());
-        var newAccessToken = jwtService.generateAccessToken(userDetails);
-        var newRefreshToken = jwtService.generateRefreshToken(userDetails);
-        jwtService.registerToken(profile.getId(), newAccessToken, JwtType.ACCESS);
-        jwtService.registerToken(profile.getId(), newRefreshToken, JwtType.REFRESH);
-
-        return new JwtAuthenticationResponse(newAccessToken, newRefreshToken);
-    }
+        jwtService.deleteProfileToken(principal.id());
 
-    private void checkProfileForExistByEmail(String emailLogin) {
-        var message = String.format("Profile with email \"%s\" non-exist", emailLogin);
-        var profileEntity = profileDAO.findByEmail(emailLogin);
-        if (profileEntity == null) {
-            LOGGER.info(message);
-            throw new ExpectedEntityNotFoundException(message);
-        }
+        return jwtService.registerTokens(principal);
     }
 }
@@ -0,0 +1,76 @@
+package org.example.taskmanager.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.taskmanager.repository.JwtDAO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Background purge of expired tokens.
+ * Rows are deleted in bounded batches, each batch in its own short transaction,
+ * so the purge never holds long locks on the table used by the authentication path
+ */
+@Component
+public class ExpiredTokenJanitor {
+
+    private static final Logger LOGGER = Logger.getLogger(ExpiredTokenJanitor.class.getName());
+
+    private final JwtDAO jwtDAO;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter deletedCounter;
+    private final Timer purgeTimer;
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+    private final AtomicLong lastRunEpochSecond = new AtomicLong();
+
+    public ExpiredTokenJanitor(
+            JwtDAO jwtDAO,
+            MeterRegistry meterRegistry,
+            @Value("${token.purge.batch-size}") int batchSize,
+            @Value("${token.purge.max-batches-per-run}") int maxBatchesPerRun
+    ) {
+        this.jwtDAO = jwtDAO;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.deletedCounter = Counter.builder("token.purge.deleted")
+                .description("Expired tokens deleted by the purge job")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("token.purge.time")
+                .description("Duration of one purge job run")
+                .register(meterRegistry);
+        meterRegistry.gauge("token.purge.last.deleted", lastRunDeleted);
+        meterRegistry.gauge("token.purge.last.run", lastRunEpochSecond);
+    }
+
+    /**
+     * Deleting expired tokens until no expired rows are left or the batch limit of the run is reached
+     */
+    @Scheduled(
+            initialDelayString = "${token.purge.interval}",
+            fixedDelayString = "${token.purge.interval}"
+    )
+    public void purgeExpired() {
+        purgeTimer.record(() -> {
+            long deleted = 0;
+            int batches = 0;
+            int batchDeleted;
+            do {
+                batchDeleted = jwtDAO.deleteExpiredBatch(batchSize);
+                deleted += batchDeleted;
+                deletedCounter.increment(batchDeleted);
+            } while (batchDeleted == batchSize && ++batches < maxBatchesPerRun);
+
+            lastRunDeleted.set(deleted);
+            lastRunEpochSecond.set(System.currentTimeMillis() / 1000);
+            if (deleted > 0) {
+                LOGGER.info(String.format("Expired tokens purged: %d", deleted));
+            }
+        });
+    }
+}
@@ -1,30 +1,36 @@
 package org.example.taskmanager.service.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.api.enums.JwtType;
+import org.example.taskmanager.api.response.JwtAuthenticationResponse;
 import org.example.taskmanager.entity.Jwt;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
 import org.example.taskmanager.repository.JwtDAO;
+import org.example.taskmanager.security.PrincipalSnapshot;
+import org.example.taskmanager.util.IdGenerator;
 import org.example.taskmanager.util.JwtUtil;
-import org.example.taskmanager.util.ProfileUtil;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -33,6 +39,8 @@ import java.util.stream.Collectors;
 public class JwtService {
 
     private final static Logger LOGGER = Logger.getLogger(JwtService.class.getName());
+    private static final String ROLES_CLAIM = "roles";
+    private static final String PROFILE_ID_CLAIM = "profileId";
 
     @Value("${token.access.secret}")
     private String jwtSigningKey;
@@ -43,100 +51,29 @@ public class JwtService {
     @Value("${token.refresh.lifetime}")
     private Duration refreshLifetime;
 
-    private final ProfileUtil profileUtil;
     private final JwtUtil jwtUtil;
     private final JwtDAO jwtDAO;
     private final ModelMapper modelMapper;
+    private final InvalidationBus invalidationBus;
+    private final IdGenerator idGenerator;
 
-    /**
-     * Extract user login
-     *
-     * @param token token
-     * @return profile login
-     */
-    public String extractUserLogin(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public String extractRefreshUserLogin(String refreshToken) {
-        return extractClaimRefresh(refreshToken, Claims::getSubject);
-    }
-
-    /**
-     * Getting data from the token
-     *
-     * @param token           token
-     * @param claimsResolvers function for extraction data
-     * @param <T>             data type
-     * @return data
-     */
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-        final var claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
-    }
-
-    private <T> T extractClaimRefresh(String token, Function<Claims, T> claimsResolvers) {
-        final var claims = extractAllClaimsRefresh(token);
-        return claimsResolvers.apply(claims);
-    }
-
-    /**
-     * Getting all data from token
-     *
-     * @param token token
-     * @return data
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigKey())
-                .build()
-                .parseClaimsJws(token)
-                .getPayload();
-    }
+    private SecretKey accessKey;
+    private SecretKey refreshKey;
+    private JwtParser accessParser;
+    private JwtParser refreshParser;
 
     /**
-     * Extracting claims from token
-     *
-     * @param token token
-     * @return token's claims
-     */
-    private Claims extractAllClaimsRefresh(String token) {
-        return Jwts.parser()
-                .setSigningKey(getRefreshSigKey())
-                .build()
-                .parseClaimsJws(token)
-                .getPayload();
-    }
-
-    /**
-     * Check token for expiration
-     *
-     * @param token token
-     * @return true, if token is expired
+     * Decoding signing keys and building token parsers once, they are immutable and thread-safe
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    @PostConstruct
+    public void init() {
+        accessKey = getKey(jwtSigningKey);
+        refreshKey = getKey(refreshJwtSigningKey);
+        accessParser = Jwts.parser().verifyWith(accessKey).build();
+        refreshParser = Jwts.parser().verifyWith(refreshKey).build();
     }
 
-    /**
-     * Getting time of expiration
-     *
-     * @param token token
-     * @return time og expiration
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Key getRefreshSigKey() {
-        return getKey(refreshJwtSigningKey);
-    }
-
-    private Key getSigKey() {
-        return getKey(jwtSigningKey);
-    }
-
-    private Key getKey(String key) {
+    private SecretKey getKey(String key) {
         return Keys.hmacShaKeyFor(getByteKey(key));
     }
 
@@ -145,97 +82,154 @@ public class JwtService {
     }
 
     /**
-     * Deleting profile tokens from repository
+     * Revoking profile tokens in repository with one bulk statement and in revocation stores of all nodes
      *
      * @param profileId profile identifier
-     * @return deleting status
      */
     @Transactional
-    public Boolean deleteProfileToken(UUID profileId) {
-        profileUtil.tryToGetProfile(profileId);
-        jwtDAO.deleteByProfileId(profileId);
-        return jwtDAO.getByProfileId(profileId).isEmpty();
+    public void deleteProfileToken(UUID profileId) {
+        var revokedTokenIds = jwtDAO.revokeByProfileId(profileId);
+        if (!revokedTokenIds.isEmpty()) {
+            invalidationBus.publish(new InvalidationEvent.TokensRevoked(revokedTokenIds));
+        }
     }
 
     /**
      * Generating access token
      *
+     * @param tokenId     Token identifier (jti)
      * @param userDetails User details
+     * @param issuedDate  Token issue time
      * @return jwt access token
      */
-    public String generateAccessToken(UserDetails userDetails) {
-        Date issuedDate = new Date();
-        Date expiredDate = new Date(issuedDate.getTime() + accessLifetime.toMillis());
+    public String generateAccessToken(UUID tokenId, UserDetails userDetails, Date issuedDate) {
+        Date expiredDate = getAccessExpiration(issuedDate);
         Map<String, Object> claims = new HashMap<>();
         List<String> roles = userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList());
-        claims.put("roles", roles);
+        claims.put(ROLES_CLAIM, roles);
+        if (userDetails instanceof PrincipalSnapshot principal) {
+            claims.put(PROFILE_ID_CLAIM, principal.id().toString());
+        }
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(tokenId.toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(issuedDate)
                 .setExpiration(expiredDate)
-                .signWith(getSigKey())
+                .signWith(accessKey)
                 .compact();
     }
 
+    /**
+     * Building principal from verified access token claims without profile repository access
+     *
+     * @param claims verified access token claims
+     * @return principal, null - if the token doesn't carry profile identifier
+     */
+    public PrincipalSnapshot extractPrincipal(Claims claims) {
+        var profileId = claims.get(PROFILE_ID_CLAIM, String.class);
+        if (profileId == null) {
+            return null;
+        }
+        return new PrincipalSnapshot(UUID.fromString(profileId), claims.getSubject(), null, true);
+    }
+
+    /**
+     * Extracting authorities from verified access token claims
+     *
+     * @param claims verified access token claims
+     * @return granted authorities
+     */
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+    }
+
     /**
      * Generating refresh token
      *
+     * @param tokenId     Token identifier (jti)
      * @param userDetails User details
+     * @param issuedDate  Token issue time
      * @return jwt refresh token
      */
-    public String generateRefreshToken(UserDetails userDetails) {
-        Date issuedDate = new Date();
-        Date expiredDate = new Date(issuedDate.getTime() + refreshLifetime.toMillis());
+    public String generateRefreshToken(UUID tokenId, UserDetails userDetails, Date issuedDate) {
+        Date expiredDate = getRefreshExpiration(issuedDate);
 
         return Jwts.builder()
+                .setId(tokenId.toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(issuedDate)
                 .setExpiration(expiredDate)
-                .signWith(getRefreshSigKey())
+                .signWith(refreshKey)
                 .compact();
     }
 
     /**
-     * Save token to token repository
+     * Generating access & refresh tokens and saving them to token repository with one batched insert,
+     * token identifiers are used as jti claims
      *
-     * @param profileId    Profile numerical identifier
-     * @param token        Token
-     * @param jwtType      Token type
-     * @return saved token
+     * @param principal authenticated principal
+     * @return saved tokens
      */
-    public String registerToken(UUID profileId, String token, JwtType jwtType) {
-        var id = UUID.randomUUID();
-        jwtDAO.save(new Jwt(
-                id,
-                profileId,
-                token,
-                jwtType
+    public JwtAuthenticationResponse registerTokens(PrincipalSnapshot principal) {
+        var accessId = idGenerator.nextId();
+        var refreshId = idGenerator.nextId();
+        var issuedDate = new Date();
+        var accessToken = generateAccessToken(accessId, principal, issuedDate);
+        var refreshToken = generateRefreshToken(refreshId, principal, issuedDate);
+
+        jwtDAO.saveAll(List.of(
+                new Jwt(
+                        accessId, principal.id(), accessToken, JwtUtil.digest(accessToken), JwtType.ACCESS,
+                        getAccessExpiration(issuedDate).toInstant(), null
+                ),
+                new Jwt(
+                        refreshId, principal.id(), refreshToken, JwtUtil.digest(refreshToken), JwtType.REFRESH,
+                        getRefreshExpiration(issuedDate).toInstant(), null
+                )
         ));
 
-        return jwtUtil.getEntity(id).getToken();
+        return new JwtAuthenticationResponse(accessToken, refreshToken);
     }
 
     /**
-     * Validating refresh token
+     * Validating refresh token, the token is parsed and verified only once
      *
      * @param refreshToken Token
-     * @return true - if valid
+     * @return verified token's claims
      */
-    public Boolean validateRefreshToken(String refreshToken) {
-        return jwtUtil.isTokenValid(refreshToken, getRefreshSigKey());
+    public Claims verifyRefreshToken(String refreshToken) {
+        var claims = jwtUtil.getVerifiedClaims(refreshToken, refreshParser);
+        jwtUtil.checkTokenNotRevoked(claims, refreshToken);
+        return claims;
     }
 
     /**
-     * Validating access token
+     * Validating access token, the token is parsed and verified only once
      *
      * @param token Token
-     * @return true - if valid
+     * @return verified token's claims
      */
-    public Boolean validateAccessToken(String token) {
-        return jwtUtil.isTokenValid(token, getSigKey());
+    public Claims verifyAccessToken(String token) {
+        var claims = jwtUtil.getVerifiedClaims(token, accessParser);
+        jwtUtil.checkTokenNotRevoked(claims, token);
+        return claims;
+    }
+
+    private Date getAccessExpiration(Date issuedDate) {
+        return new Date(issuedDate.getTime() + accessLifetime.toMillis());
+    }
+
+    private Date getRefreshExpiration(Date issuedDate) {
+        return new Date(issuedDate.getTime() + refreshLifetime.toMillis());
     }
 }
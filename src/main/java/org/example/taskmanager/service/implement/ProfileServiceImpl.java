@@ -5,19 +5,22 @@ import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.api.request.profile.AddProfileRequest;
 import org.example.taskmanager.api.request.profile.PutProfileRequest;
 import org.example.taskmanager.api.response.ProfileResponse;
+import org.example.taskmanager.api.response.SlicePage;
 import org.example.taskmanager.entity.Profile;
-import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
 import org.example.taskmanager.repository.ProfileDAO;
 import org.example.taskmanager.repository.TaskCommentDAO;
 import org.example.taskmanager.repository.TaskDAO;
 import org.example.taskmanager.service.interfaces.ProfileService;
+import org.example.taskmanager.util.IdGenerator;
 import org.example.taskmanager.util.PasswordUtil;
 import org.example.taskmanager.util.ProfileAccessUtil;
 import org.example.taskmanager.util.ProfileUtil;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Logger;
@@ -34,6 +37,8 @@ public class ProfileServiceImpl implements ProfileService {
     private final TaskCommentDAO taskCommentDAO;
     private final ProfileAccessUtil profileAccessUtil;
     private final PasswordUtil passwordUtil;
+    private final InvalidationBus invalidationBus;
+    private final IdGenerator idGenerator;
 
     @Override
     @Transactional
@@ -41,15 +46,14 @@ public class ProfileServiceImpl implements ProfileService {
         //TODO add permission status to Profile
         //TODO checkAdminPermission on FilterChain level
 
-        var id = UUID.randomUUID();
-        profileDAO.save(new Profile(
-                id,
-                request.getName(),
-                request.getEmail(),
-                passwordUtil.getEncodedPassword(request.getPassword()),
-                true
-        ));
-        return getById(id);
+        var profile = profileDAO.save(Profile.builder()
+                .id(idGenerator.nextId())
+                .name(request.getName())
+                .email(request.getEmail())
+                .password(passwordUtil.getEncodedPassword(request.getPassword()))
+                .isActive(true)
+                .build());
+        return profileUtil.convertToResponse(profile);
     }
 
     @Override
@@ -63,7 +67,14 @@ public class ProfileServiceImpl implements ProfileService {
         // check
         profileAccessUtil.checkAuthorAuthorization(Set.of(id));
         // logic
-        profileDAO.save(profileUtil.convertToEntity(id, request));
+        var profile = profileUtil.getEntity(id);
+        var changes = profileUtil.convertToEntity(id, request);
+        profile.setName(changes.getName());
+        profile.setEmail(changes.getEmail());
+        profile.setPassword(changes.getPassword());
+        profile.setIsActive(changes.getIsActive());
+        profileDAO.save(profile);
+        invalidationBus.publish(new InvalidationEvent.ProfileChanged(id));
         return getById(id);
     }
 
@@ -74,47 +85,41 @@ public class ProfileServiceImpl implements ProfileService {
         profileAccessUtil.checkAuthorAuthorization(Set.of(id));
         // logic
         if (thereAreNoTasksWithProfileAsAuthor(id) && thereAreNoTaskCommentsFromProfile(id)) {
-            if (!thereAreNoTasksWithProfileAsExecutor(id)) {
-                removeProfileFromTaskAsExecutor(id);
-            }
+            removeProfileFromTaskAsExecutor(id);
             profileDAO.deleteById(id);
         } else {
             var deactivatedProfile = profileUtil.getEntity(id);
             deactivatedProfile.setIsActive(false);
             profileDAO.save(deactivatedProfile);
         }
+        invalidationBus.publish(new InvalidationEvent.ProfileChanged(id));
 
         var deletableProfile = profileDAO.findById(id);
         return deletableProfile.isEmpty() || !deletableProfile.get().getIsActive();
     }
 
     @Override
-    public Collection<ProfileResponse> getAllWithPagination(Integer pageSize, Integer pageNumber) {
-        return profileDAO.findAll(PageRequest.of(pageNumber, pageSize)).stream()
-                .map(profileUtil::convertToResponse)
-                .toList();
-
+    public SlicePage<ProfileResponse> getAllWithPagination(Integer pageSize, Integer pageNumber, Boolean includeTotal) {
+        var profiles = profileDAO.findAllBy(PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+        return new SlicePage<>(
+                profiles.stream()
+                        .map(profileUtil::convertToResponse)
+                        .toList(),
+                profiles.hasNext(),
+                Boolean.TRUE.equals(includeTotal) ? profileDAO.estimateCount() : null
+        );
     }
 
     private void removeProfileFromTaskAsExecutor(UUID profileId) {
-        Collection<Task> tasks = taskDAO.findTaskByExecutorId(profileId);
-        tasks.stream()
-                .map(it -> {
-                    var newTaskVer = it.clone();
-                    newTaskVer.setExecutorId(null);
-                    return newTaskVer;
-                })
-                .forEach(taskDAO::save);
+        if (taskDAO.clearExecutor(profileId) > 0) {
+            invalidationBus.publish(new InvalidationEvent.ExecutorRemoved(profileId));
+        }
     }
 
     private Boolean thereAreNoTasksWithProfileAsAuthor(UUID profileId) {
         return !taskDAO.existsByAuthorId(profileId);
     }
 
-    private Boolean thereAreNoTasksWithProfileAsExecutor(UUID profileId) {
-        return !taskDAO.existsByExecutorId(profileId);
-    }
-
     private Boolean thereAreNoTaskCommentsFromProfile(UUID profileID) {
         return !taskCommentDAO.existsByAuthorId(profileID);
     }
@@ -0,0 +1,236 @@
+package org.example.taskmanager.service.implement;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.taskmanager.api.enums.TaskBatchOperationType;
+import org.example.taskmanager.api.request.task.PutTaskRequest;
+import org.example.taskmanager.api.request.task.TaskBatchOperation;
+import org.example.taskmanager.api.request.task.TaskBatchRequest;
+import org.example.taskmanager.api.response.TaskBatchResponse;
+import org.example.taskmanager.api.response.TaskResponse;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.exception.ExpectedEntityNotFoundException;
+import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.repository.ProfileDAO;
+import org.example.taskmanager.repository.TaskCommentDAO;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.service.interfaces.TaskBatchService;
+import org.example.taskmanager.util.IdGenerator;
+import org.example.taskmanager.util.ProfileAccessUtil;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mixed task writes in one transaction. Referenced tasks are loaded by one query, referenced profiles are checked
+ * by one query, writes are flushed at commit as JDBC batches
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBatchServiceImpl implements TaskBatchService {
+
+    private final TaskDAO taskDAO;
+    private final ProfileDAO profileDAO;
+    private final TaskCommentDAO taskCommentDAO;
+    private final ModelMapper modelMapper;
+    private final ProfileAccessUtil profileAccessUtil;
+    private final InvalidationBus invalidationBus;
+    private final IdGenerator idGenerator;
+
+    @Override
+    @Transactional
+    public TaskBatchResponse execute(TaskBatchRequest request) {
+        var operations = request.getOperations();
+        // check
+        checkOperations(operations);
+        var tasks = taskDAO.findAllById(
+                operations.stream()
+                        .filter(operation -> operation.getType() != TaskBatchOperationType.CREATE)
+                        .map(TaskBatchOperation::getId)
+                        .toList()
+        ).stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        checkAuthorization(operations, tasks);
+        checkAuthorExecutorFKConstraint(operations);
+        // logic
+        var results = new TaskBatchResponse.OperationResult[operations.size()];
+        var created = new ArrayList<Task>();
+        var createdIndexes = new ArrayList<Integer>();
+        var deleted = new ArrayList<Task>();
+        for (int i = 0; i < operations.size(); i++) {
+            var operation = operations.get(i);
+            switch (operation.getType()) {
+                case CREATE -> {
+                    var task = modelMapper.map(operation.getTask(), Task.class);
+                    task.setId(idGenerator.nextId());
+                    created.add(task);
+                    createdIndexes.add(i);
+                }
+                case UPDATE -> {
+                    var task = tasks.get(operation.getId());
+                    applyUpdate(task, operation.getTask());
+                    results[i] = toResult(i, operation, task);
+                }
+                case STATUS -> {
+                    var task = tasks.get(operation.getId());
+                    task.setStatus(operation.getStatus());
+                    results[i] = toResult(i, operation, task);
+                }
+                case DELETE -> {
+                    deleted.add(tasks.get(operation.getId()));
+                    results[i] = new TaskBatchResponse.OperationResult(i, operation.getType(), operation.getId(), null);
+                }
+            }
+        }
+
+        var saved = taskDAO.saveAll(created);
+        for (int i = 0; i < saved.size(); i++) {
+            var index = createdIndexes.get(i);
+            results[index] = toResult(index, operations.get(index), saved.get(i));
+        }
+        if (!deleted.isEmpty()) {
+            taskCommentDAO.deleteAllByTaskIdIn(deleted.stream().map(Task::getId).toList());
+            taskDAO.deleteAll(deleted);
+        }
+
+        for (var operation : operations) {
+            if (operation.getType() == TaskBatchOperationType.DELETE) {
+                invalidationBus.publish(new InvalidationEvent.TaskDeleted(operation.getId()));
+            }
+        }
+        for (var result : results) {
+            if (result.task() != null) {
+                invalidationBus.publish(new InvalidationEvent.TaskChanged(
+                        result.id(),
+                        result.task().getLabel(),
+                        result.task().getAuthorId(),
+                        result.task().getExecutorId()
+                ));
+            }
+        }
+        return new TaskBatchResponse(List.of(results));
+    }
+
+    /**
+     * Checking required fields of operations, every task is referenced by one operation at most
+     */
+    private void checkOperations(List<TaskBatchOperation> operations) {
+        var referencedIds = new HashSet<UUID>();
+        for (int i = 0; i < operations.size(); i++) {
+            var operation = operations.get(i);
+            var type = operation.getType();
+            if (type != TaskBatchOperationType.CREATE && operation.getId() == null) {
+                throw new UnexpectedRequestParameterException(
+                        String.format("Operation %d: task ID is required for %s", i, type)
+                );
+            }
+            if ((type == TaskBatchOperationType.CREATE || type == TaskBatchOperationType.UPDATE)
+                    && operation.getTask() == null) {
+                throw new UnexpectedRequestParameterException(
+                        String.format("Operation %d: task data is required for %s", i, type)
+                );
+            }
+            if (type == TaskBatchOperationType.STATUS && operation.getStatus() == null) {
+                throw new UnexpectedRequestParameterException(
+                        String.format("Operation %d: status is required for %s", i, type)
+                );
+            }
+            if (operation.getId() != null && !referencedIds.add(operation.getId())) {
+                throw new UnexpectedRequestParameterException(
+                        String.format("Operation %d: task with ID (%s) is referenced by several operations", i, operation.getId())
+                );
+            }
+        }
+    }
+
+    /**
+     * Checking existence of referenced tasks and access of the authorized profile.
+     * Author changes and deletes tasks, executor may change status
+     */
+    private void checkAuthorization(List<TaskBatchOperation> operations, Map<UUID, Task> tasks) {
+        for (int i = 0; i < operations.size(); i++) {
+            var operation = operations.get(i);
+            if (operation.getType() == TaskBatchOperationType.CREATE) {
+                profileAccessUtil.checkAuthorAuthorization(Set.of(operation.getTask().getAuthorId()));
+                continue;
+            }
+            var task = tasks.get(operation.getId());
+            if (task == null) {
+                throw new ExpectedEntityNotFoundException(
+                        String.format("Operation %d: task with ID (%s) not found", i, operation.getId())
+                );
+            }
+            switch (operation.getType()) {
+                case UPDATE -> {
+                    profileAccessUtil.checkAuthorAuthorization(Set.of(task.getAuthorId()));
+                    profileAccessUtil.checkAuthorAuthorization(Set.of(operation.getTask().getAuthorId()));
+                }
+                case STATUS -> {
+                    var participants = new HashSet<UUID>();
+                    participants.add(task.getAuthorId());
+                    if (task.getExecutorId() != null) participants.add(task.getExecutorId());
+                    profileAccessUtil.checkAuthorAuthorization(participants);
+                }
+                default -> profileAccessUtil.checkAuthorAuthorization(Set.of(task.getAuthorId()));
+            }
+        }
+    }
+
+    private void checkAuthorExecutorFKConstraint(List<TaskBatchOperation> operations) {
+        var profileIds = new HashSet<UUID>();
+        for (var operation : operations) {
+            if (!hasTaskData(operation)) continue;
+            profileIds.add(operation.getTask().getAuthorId());
+            if (operation.getTask().getExecutorId() != null) profileIds.add(operation.getTask().getExecutorId());
+        }
+        if (profileIds.isEmpty()) {
+            return;
+        }
+        var existingIds = new HashSet<>(profileDAO.findExistingIds(profileIds));
+        for (int i = 0; i < operations.size(); i++) {
+            if (!hasTaskData(operations.get(i))) continue;
+            var task = operations.get(i).getTask();
+            if (!existingIds.contains(task.getAuthorId())) {
+                throw new ExpectedEntityNotFoundException(
+                        String.format("Operation %d: author's profile with ID (%s) not found", i, task.getAuthorId())
+                );
+            }
+            if (task.getExecutorId() != null && !existingIds.contains(task.getExecutorId())) {
+                throw new ExpectedEntityNotFoundException(
+                        String.format("Operation %d: executor's profile with ID (%s) not found", i, task.getExecutorId())
+                );
+            }
+        }
+    }
+
+    private static boolean hasTaskData(TaskBatchOperation operation) {
+        return operation.getType() == TaskBatchOperationType.CREATE || operation.getType() == TaskBatchOperationType.UPDATE;
+    }
+
+    private static void applyUpdate(Task task, PutTaskRequest request) {
+        task.setLabel(request.getLabel());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus());
+        task.setPriority(request.getPriority());
+        task.setAuthorId(request.getAuthorId());
+        task.setExecutorId(request.getExecutorId());
+    }
+
+    private TaskBatchResponse.OperationResult toResult(int index, TaskBatchOperation operation, Task task) {
+        return new TaskBatchResponse.OperationResult(
+                index,
+                operation.getType(),
+                task.getId(),
+                modelMapper.map(task, TaskResponse.class)
+        );
+    }
+}
@@ -4,19 +4,26 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.api.request.taskComment.AddTaskCommentRequest;
 import org.example.taskmanager.api.request.taskComment.PutTaskCommentRequest;
+import org.example.taskmanager.api.response.SlicePage;
 import org.example.taskmanager.api.response.TaskCommentResponse;
+import org.example.taskmanager.api.response.VersionedResponse;
 import org.example.taskmanager.entity.TaskComment;
 import org.example.taskmanager.exception.ExpectedEntityNotFoundException;
+import org.example.taskmanager.exception.PreconditionFailedException;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
 import org.example.taskmanager.repository.ProfileDAO;
 import org.example.taskmanager.repository.TaskCommentDAO;
 import org.example.taskmanager.repository.TaskDAO;
 import org.example.taskmanager.service.interfaces.TaskCommentService;
+import org.example.taskmanager.util.ETags;
+import org.example.taskmanager.util.IdGenerator;
 import org.example.taskmanager.util.ProfileAccessUtil;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,6 +36,8 @@ public class TaskCommentServiceImpl implements TaskCommentService {
     private final TaskDAO taskDAO;
     private final ModelMapper modelMapper;
     private final ProfileAccessUtil profileAccessUtil;
+    private final IdGenerator idGenerator;
+    private final InvalidationBus invalidationBus;
 
     @Override
     @Transactional
@@ -40,43 +49,86 @@ public class TaskCommentServiceImpl implements TaskCommentService {
         checkTaskFKConstraint(request.getTaskId());
         profileAccessUtil.checkAuthorAuthorization(Set.of(request.getAuthorId()));
         // logic
-        var id = UUID.randomUUID();
+        var id = idGenerator.nextId();
         var taskComment = convertToEntity(id, request);
-        taskCommentDAO.save(taskComment);
 
-        return getById(id);
+        return convertToResponse(taskCommentDAO.save(taskComment));
     }
 
     @Override
-    public TaskCommentResponse getById(UUID id) {
-        return convertToResponse(getEntity(id));
+    public VersionedResponse<TaskCommentResponse> getById(UUID id) {
+        return convertToVersionedResponse(getEntity(id));
+    }
+
+    @Override
+    public long getVersion(UUID id) {
+        return taskCommentDAO.findVersionById(id).orElseThrow(
+                () -> new ExpectedEntityNotFoundException(String.format("Task comment with ID (%s) not found", id))
+        );
+    }
+
+    @Override
+    public String getPageETag(UUID taskId, Integer pageNumber, Integer pageSize, Boolean includeTotal) {
+        // check
+        checkTaskFKConstraint(taskId);
+        // logic
+        var versions = taskCommentDAO.findVersionsByTaskId(taskId, PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+        var hasher = new ETags.Hasher();
+        versions.forEach(it -> hasher.add(it.getId(), it.getVersion()));
+        return toPageETag(
+                hasher,
+                versions.hasNext(),
+                Boolean.TRUE.equals(includeTotal) ? taskCommentDAO.countByTaskId(taskId) : null
+        );
     }
 
     @Override
     @Transactional
-    public Collection<TaskCommentResponse> getAllByTaskWithPagination(
+    public SlicePage<TaskCommentResponse> getAllByTaskWithPagination(
             UUID taskId,
             Integer pageNumber,
-            Integer pageSize
+            Integer pageSize,
+            Boolean includeTotal
     ) {
         // check
         checkTaskFKConstraint(taskId);
         // logic
-        return taskCommentDAO.findAllByTaskId(taskId, PageRequest.of(pageNumber, pageSize)).stream()
-                .map(this::convertToResponse)
-                .toList();
+        var comments = taskCommentDAO.findAllByTaskId(taskId, PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+        // comments of one task are counted exactly by (task_id, id) index
+        var total = Boolean.TRUE.equals(includeTotal) ? taskCommentDAO.countByTaskId(taskId) : null;
+        var hasher = new ETags.Hasher();
+        comments.forEach(it -> hasher.add(it.getId(), it.getVersion()));
+        return new SlicePage<>(
+                comments.stream()
+                        .map(this::convertToResponse)
+                        .toList(),
+                comments.hasNext(),
+                total,
+                toPageETag(hasher, comments.hasNext(), total)
+        );
     }
 
     @Override
     @Transactional
-    public TaskCommentResponse update(UUID id, PutTaskCommentRequest request) {
+    public VersionedResponse<TaskCommentResponse> update(UUID id, PutTaskCommentRequest request, Long expectedVersion) {
+        // prepare
+        var taskComment = getEntity(id);
         // check
         checkAuthorFKConstraint(request.getAuthorId());
         checkTaskFKConstraint(request.getTaskId());
+        profileAccessUtil.checkAuthorAuthorization(Set.of(taskComment.getAuthorId()));
         profileAccessUtil.checkAuthorAuthorization(Set.of(request.getAuthorId()));
+        if (expectedVersion != null && !expectedVersion.equals(taskComment.getVersion())) {
+            throw new PreconditionFailedException(String.format(
+                    "Task comment (%s) has version %d, expected %d", id, taskComment.getVersion(), expectedVersion
+            ));
+        }
         // logic
-        taskCommentDAO.save(convertToEntity(id, request));
-        return getById(id);
+        modelMapper.map(request, taskComment);
+        // flush increments the version returned in entity tag
+        var savedComment = taskCommentDAO.saveAndFlush(taskComment);
+        invalidationBus.publish(new InvalidationEvent.TaskCommentChanged(id));
+        return convertToVersionedResponse(savedComment);
     }
 
     @Override
@@ -85,6 +137,7 @@ public class TaskCommentServiceImpl implements TaskCommentService {
         profileAccessUtil.checkAuthorAuthorization(Set.of(getEntity(id).getAuthorId()));
         // logic
         taskCommentDAO.deleteById(id);
+        invalidationBus.publish(new InvalidationEvent.TaskCommentChanged(id));
         return !taskCommentDAO.existsById(id);
     }
 
@@ -104,6 +157,21 @@ public class TaskCommentServiceImpl implements TaskCommentService {
         return modelMapper.map(entity, TaskCommentResponse.class);
     }
 
+    private VersionedResponse<TaskCommentResponse> convertToVersionedResponse(TaskComment entity) {
+        return new VersionedResponse<>(convertToResponse(entity), entity.getVersion());
+    }
+
+    /**
+     * Entity tag of comments page: identifiers and versions of its comments, next page existence and total count
+     */
+    private static String toPageETag(ETags.Hasher hasher, boolean hasNext, Long total) {
+        hasher.add(hasNext ? 1 : 0);
+        if (total != null) {
+            hasher.add(total);
+        }
+        return hasher.toETag();
+    }
+
     private void checkAuthorFKConstraint(UUID authorId) {
         if (!profileDAO.existsById(authorId)) {
             throw new ExpectedEntityNotFoundException(String.format("Author's profile with ID (%s) not found", authorId));
@@ -0,0 +1,114 @@
+package org.example.taskmanager.service.implement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.taskmanager.api.enums.DataFormat;
+import org.example.taskmanager.service.interfaces.TaskExportService;
+import org.example.taskmanager.util.CsvRowWriter;
+import org.example.taskmanager.util.NdjsonRowWriter;
+import org.example.taskmanager.util.RowWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Export of whole tables. Rows are read through forward-only cursor by fetch size chunks
+ * and written to the output right away, so memory use doesn't depend on table size
+ */
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskExportServiceImpl.class.getName());
+
+    private static final List<String> TASK_COLUMNS = List.of(
+            "id", "label", "description", "status", "priority", "author_id", "executor_id"
+    );
+    private static final List<String> COMMENT_COLUMNS = List.of(
+            "id", "task_id", "author_id", "content"
+    );
+
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate exportTransactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public TaskExportServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${export.fetch-size}") int fetchSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.exportJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+        // Postgres driver uses cursor by fetch size only inside transaction
+        this.exportTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.exportTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void exportTasks(DataFormat format, OutputStream outputStream) {
+        export("task", TASK_COLUMNS, format, outputStream);
+    }
+
+    @Override
+    public void exportComments(DataFormat format, OutputStream outputStream) {
+        export("task_comment", COMMENT_COLUMNS, format, outputStream);
+    }
+
+    private void export(String table, List<String> columns, DataFormat format, OutputStream outputStream) {
+        var sql = String.format("SELECT %s FROM %s", String.join(", ", columns), table);
+        var startTime = System.nanoTime();
+        // both formats name fields in camel case like the API does
+        var fields = columns.stream().map(TaskExportServiceImpl::toCamelCase).toList();
+        RowWriter rowWriter = switch (format) {
+            case NDJSON -> new NdjsonRowWriter(objectMapper.getFactory(), outputStream, fields);
+            case CSV -> new CsvRowWriter(outputStream, fields);
+        };
+        long rows;
+        try (rowWriter) {
+            rowWriter.writeHeader();
+            rows = exportTransactionTemplate.execute(status -> {
+                long[] count = {0};
+                exportJdbcTemplate.query(sql, resultSet -> {
+                    rowWriter.writeRow(resultSet);
+                    count[0]++;
+                });
+                return count[0];
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        var seconds = Math.max((System.nanoTime() - startTime) / 1e9, 1e-9);
+        meterRegistry.counter("export.rows", "table", table, "format", format.name()).increment(rows);
+        LOGGER.info(String.format(
+                "Exported %d rows of %s as %s in %.1f s (%.0f rows/s)",
+                rows, table, format, seconds, rows / seconds
+        ));
+    }
+
+    private static String toCamelCase(String column) {
+        var builder = new StringBuilder(column.length());
+        var upper = false;
+        for (var ch : column.toCharArray()) {
+            if (ch == '_') {
+                upper = true;
+            } else {
+                builder.append(upper ? Character.toUpperCase(ch) : ch);
+                upper = false;
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,391 @@
+package org.example.taskmanager.service.implement;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.taskmanager.api.enums.DataFormat;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.api.request.task.ImportTaskRequest;
+import org.example.taskmanager.api.response.TaskImportResponse;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.service.interfaces.TaskImportService;
+import org.example.taskmanager.util.CsvRecordReader;
+import org.example.taskmanager.util.IdGenerator;
+import org.example.taskmanager.util.JwtUtil;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of tasks. Rows are parsed and validated in chunks, foreign keys of a chunk are checked
+ * by one query per table and valid rows are loaded by COPY, each chunk in its own transaction
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskImportServiceImpl.class.getName());
+
+    private static final String COPY_SQL = "COPY task (id, label, description, status, priority, author_id, executor_id) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JwtUtil jwtUtil;
+    private final InvalidationBus invalidationBus;
+    private final IdGenerator idGenerator;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public TaskImportServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            JwtUtil jwtUtil,
+            InvalidationBus invalidationBus,
+            IdGenerator idGenerator,
+            @Value("${import.chunk-size}") int chunkSize,
+            @Value("${import.max-reported-errors}") int maxReportedErrors
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.jwtUtil = jwtUtil;
+        this.invalidationBus = invalidationBus;
+        this.idGenerator = idGenerator;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public TaskImportResponse importTasks(DataFormat format, InputStream inputStream) {
+        var authorizedProfileId = jwtUtil.getAuthorizedProfileId();
+        var report = new Report();
+        var startTime = System.nanoTime();
+        var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+
+        var chunk = new ArrayList<ParsedRow>(chunkSize);
+        var lastRow = 0L;
+        try {
+            RowSource rows = switch (format) {
+                case NDJSON -> new NdjsonRowSource(reader);
+                case CSV -> new CsvRowSource(reader);
+            };
+            ParsedRow row;
+            while ((row = rows.next()) != null) {
+                lastRow = row.number();
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, authorizedProfileId, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, authorizedProfileId, report);
+        } catch (IOException ex) {
+            // rows read before the failure are imported, so the report covers every row up to it
+            LOGGER.warning(String.format("Import input can't be read after row %d: %s", lastRow, ex.getMessage()));
+            importChunk(chunk, authorizedProfileId, report);
+            report.errors.add(new TaskImportResponse.RowError(
+                    lastRow + 1,
+                    String.format("Input can't be read, rows from this one are not imported: %s", ex.getMessage())
+            ));
+        } finally {
+            if (report.imported > 0) {
+                invalidationBus.publish(new InvalidationEvent.TasksImported());
+            }
+        }
+
+        var seconds = Math.max((System.nanoTime() - startTime) / 1e9, 1e-9);
+        LOGGER.info(String.format(
+                "Imported %d tasks (%d failed) in %.1f s (%.0f rows/s)",
+                report.imported, report.failed, seconds, report.imported / seconds
+        ));
+        return new TaskImportResponse(report.imported, report.failed, report.errors);
+    }
+
+    private void importChunk(List<ParsedRow> chunk, UUID authorizedProfileId, Report report) {
+        var candidates = new ArrayList<ParsedRow>(chunk.size());
+        for (var row : chunk) {
+            if (row.error() != null) {
+                report.fail(row.number(), row.error());
+            } else if (validate(row, authorizedProfileId, report)) {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        var rowErrors = new ArrayList<TaskImportResponse.RowError>();
+        try {
+            var imported = transactionTemplate.execute(status -> copyChunk(candidates, rowErrors));
+            report.imported += imported == null ? 0 : imported;
+            rowErrors.forEach(error -> report.fail(error.row(), error.message()));
+        } catch (DataAccessException | UncheckedIOException ex) {
+            var message = ex instanceof DataAccessException dataAccessException
+                    ? dataAccessException.getMostSpecificCause().getMessage()
+                    : ex.getMessage();
+            LOGGER.warning(String.format("Import chunk rejected: %s", message));
+            candidates.forEach(row -> report.fail(row.number(), "Chunk rejected by database: " + message));
+        }
+    }
+
+    /**
+     * Checking foreign keys and identifiers of the chunk with one query per table and loading valid rows by COPY
+     *
+     * @param rows      validated rows
+     * @param rowErrors errors of rows rejected by the checks
+     * @return count of loaded rows
+     */
+    private int copyChunk(List<ParsedRow> rows, List<TaskImportResponse.RowError> rowErrors) {
+        var profileIds = new HashSet<UUID>();
+        var taskIds = new HashSet<UUID>();
+        for (var row : rows) {
+            profileIds.add(row.request().getAuthorId());
+            if (row.request().getExecutorId() != null) profileIds.add(row.request().getExecutorId());
+            if (row.request().getId() != null) taskIds.add(row.request().getId());
+        }
+        var existingProfiles = selectExisting("profile", profileIds);
+        var existingTasks = selectExisting("task", taskIds);
+
+        var chunkTaskIds = new HashSet<UUID>();
+        var copyData = new StringBuilder(rows.size() * 128);
+        var rowCount = 0;
+        for (var row : rows) {
+            var request = row.request();
+            if (!existingProfiles.contains(request.getAuthorId())) {
+                rowErrors.add(new TaskImportResponse.RowError(
+                        row.number(),
+                        String.format("Author's profile with ID (%s) not found", request.getAuthorId())
+                ));
+                continue;
+            }
+            if (request.getExecutorId() != null && !existingProfiles.contains(request.getExecutorId())) {
+                rowErrors.add(new TaskImportResponse.RowError(
+                        row.number(),
+                        String.format("Executor's profile with ID (%s) not found", request.getExecutorId())
+                ));
+                continue;
+            }
+            var id = request.getId() == null ? idGenerator.nextId() : request.getId();
+            if (existingTasks.contains(id) || !chunkTaskIds.add(id)) {
+                rowErrors.add(new TaskImportResponse.RowError(
+                        row.number(),
+                        String.format("Task with ID (%s) already exists", id)
+                ));
+                continue;
+            }
+            appendCsvRow(copyData, id, request);
+            rowCount++;
+        }
+
+        if (rowCount > 0) {
+            jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try {
+                    return connection.unwrap(PGConnection.class)
+                            .getCopyAPI()
+                            .copyIn(COPY_SQL, new StringReader(copyData.toString()));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+        return rowCount;
+    }
+
+    private boolean validate(ParsedRow row, UUID authorizedProfileId, Report report) {
+        var violations = validator.validate(row.request());
+        if (!violations.isEmpty()) {
+            report.fail(row.number(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+            return false;
+        }
+        if (!authorizedProfileId.equals(row.request().getAuthorId())) {
+            report.fail(row.number(), String.format("Wrong authorized profile (%s)", authorizedProfileId));
+            return false;
+        }
+        return true;
+    }
+
+    private Set<UUID> selectExisting(String table, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                String.format("SELECT id FROM %s WHERE id = ANY(?)", table),
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids.toArray())),
+                (resultSet, rowNumber) -> resultSet.getObject(1, UUID.class)
+        ));
+    }
+
+    private static void appendCsvRow(StringBuilder builder, UUID id, ImportTaskRequest request) {
+        builder.append(id).append(',');
+        appendCsvValue(builder, request.getLabel());
+        builder.append(',');
+        appendCsvValue(builder, request.getDescription());
+        builder.append(',')
+                .append(request.getStatus().name()).append(',')
+                .append(request.getPriority().name()).append(',')
+                .append(request.getAuthorId()).append(',');
+        if (request.getExecutorId() != null) {
+            builder.append(request.getExecutorId());
+        }
+        builder.append('\n');
+    }
+
+    /**
+     * Values are always quoted: quoted empty string is empty string for COPY, unquoted empty value is NULL
+     */
+    private static void appendCsvValue(StringBuilder builder, String value) {
+        if (value == null) return;
+        builder.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private final class Report {
+
+        private long imported;
+        private long failed;
+        private final List<TaskImportResponse.RowError> errors = new ArrayList<>();
+
+        private void fail(long row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TaskImportResponse.RowError(row, message));
+            }
+        }
+    }
+
+    /**
+     * Parsed row, the request is null if the row can't be parsed
+     */
+    private record ParsedRow(long number, ImportTaskRequest request, String error) {
+    }
+
+    private interface RowSource {
+
+        /**
+         * @return next row, null - if the input is over
+         */
+        ParsedRow next() throws IOException;
+    }
+
+    /**
+     * One JSON object per line, blank lines are skipped
+     */
+    private final class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private long number;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) return null;
+            } while (line.isBlank());
+            number++;
+            try {
+                var request = objectMapper.readValue(line, ImportTaskRequest.class);
+                if (request == null) {
+                    return new ParsedRow(number, null, "Row is not a JSON object");
+                }
+                return new ParsedRow(number, request, null);
+            } catch (JsonProcessingException ex) {
+                return new ParsedRow(number, null, ex.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * CSV with header line, columns are matched by name in snake or camel case, unknown columns are ignored
+     */
+    private static final class CsvRowSource implements RowSource {
+
+        private final CsvRecordReader reader;
+        private final List<BiConsumer<ImportTaskRequest, String>> setters = new ArrayList<>();
+        private long number;
+
+        private CsvRowSource(BufferedReader reader) throws IOException {
+            this.reader = new CsvRecordReader(reader);
+            var header = this.reader.readRecord();
+            if (header == null) {
+                return;
+            }
+            for (var column : header) {
+                setters.add(setter(column == null ? "" : column));
+            }
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            var record = reader.readRecord();
+            if (record == null) return null;
+            number++;
+            if (record.size() != setters.size()) {
+                return new ParsedRow(
+                        number,
+                        null,
+                        String.format("Expected %d fields, found %d", setters.size(), record.size())
+                );
+            }
+            var request = new ImportTaskRequest();
+            try {
+                for (int i = 0; i < record.size(); i++) {
+                    if (record.get(i) != null) setters.get(i).accept(request, record.get(i));
+                }
+            } catch (IllegalArgumentException ex) {
+                return new ParsedRow(number, null, ex.getMessage());
+            }
+            return new ParsedRow(number, request, null);
+        }
+
+        private static BiConsumer<ImportTaskRequest, String> setter(String column) {
+            return switch (column.replace("_", "").toLowerCase(Locale.ROOT)) {
+                case "id" -> (request, value) -> request.setId(UUID.fromString(value));
+                case "label" -> ImportTaskRequest::setLabel;
+                case "description" -> ImportTaskRequest::setDescription;
+                case "status" -> (request, value) -> request.setStatus(TaskStatus.valueOf(value));
+                case "priority" -> (request, value) -> request.setPriority(TaskPriority.valueOf(value));
+                case "authorid" -> (request, value) -> request.setAuthorId(UUID.fromString(value));
+                case "executorid" -> (request, value) -> request.setExecutorId(UUID.fromString(value));
+                default -> (request, value) -> {
+                };
+            };
+        }
+    }
+}
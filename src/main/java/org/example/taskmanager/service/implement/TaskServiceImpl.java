@@ -3,24 +3,43 @@ package org.example.taskmanager.service.implement;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.api.enums.ProfileStatusForTask;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskSortKey;
 import org.example.taskmanager.api.enums.TaskStatus;
 import org.example.taskmanager.api.request.task.AddTaskRequest;
 import org.example.taskmanager.api.request.task.PutTaskRequest;
+import org.example.taskmanager.api.request.task.TaskSearchRequest;
+import org.example.taskmanager.api.response.CursorPage;
+import org.example.taskmanager.api.response.SlicePage;
 import org.example.taskmanager.api.response.TaskResponse;
+import org.example.taskmanager.api.response.TaskSearchHitResponse;
+import org.example.taskmanager.api.response.VersionedResponse;
 import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.exception.ConcurrentModificationConflictException;
 import org.example.taskmanager.exception.ExpectedEntityNotFoundException;
+import org.example.taskmanager.exception.PreconditionFailedException;
 import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
 import org.example.taskmanager.repository.ProfileDAO;
 import org.example.taskmanager.repository.TaskCommentDAO;
 import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.repository.specification.TaskSpecifications;
 import org.example.taskmanager.service.interfaces.TaskService;
+import org.example.taskmanager.util.IdGenerator;
+import org.example.taskmanager.util.JwtUtil;
+import org.example.taskmanager.util.PageCursor;
+import org.example.taskmanager.util.PaginationConstraint;
 import org.example.taskmanager.util.ProfileAccessUtil;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Logger;
@@ -31,12 +50,16 @@ import java.util.stream.Collectors;
 public class TaskServiceImpl implements TaskService {
 
     private static final Logger LOGGER = Logger.getLogger(TaskServiceImpl.class.getName());
+    private static final String FULL_TEXT_SORT_KEY = "RANK";
 
     private final TaskDAO taskDAO;
     private final ProfileDAO profileDAO;
     private final ModelMapper modelMapper;
     private final TaskCommentDAO taskCommentDAO;
     private final ProfileAccessUtil profileAccessUtil;
+    private final InvalidationBus invalidationBus;
+    private final IdGenerator idGenerator;
+    private final JwtUtil jwtUtil;
 
     @Override
     @Transactional
@@ -47,77 +70,139 @@ public class TaskServiceImpl implements TaskService {
         profileAccessUtil.checkAuthorAuthorization(Set.of(request.getAuthorId()));
         checkAuthorExecutorFKConstraint(request.getAuthorId(), request.getExecutorId());
         // logic
-        var id = UUID.randomUUID();
+        var id = idGenerator.nextId();
         var taskEntity = convertToEntity(id, request);
+        var savedTask = taskDAO.save(taskEntity);
+        publishTaskChanged(savedTask);
 
-        return convertToResponse(taskDAO.save(taskEntity));
+        return convertToResponse(savedTask);
     }
 
     @Override
     @Transactional
-    public TaskResponse getById(UUID id) {
-        return convertToResponse(getEntity(id));
+    public VersionedResponse<TaskResponse> getById(UUID id) {
+        return convertToVersionedResponse(getEntity(id));
     }
 
     @Override
-    public Collection<TaskResponse> getAllWithPagination(Integer pageSize, Integer pageNumber) {
-        return taskDAO.findAll(PageRequest.of(pageNumber, pageSize)).stream()
-                .map(this::convertToResponse)
-                .toList();
+    public long getVersion(UUID id) {
+        return taskDAO.findVersionById(id).orElseThrow(
+                () -> new ExpectedEntityNotFoundException(String.format("Task with ID (%s) not found", id))
+        );
+    }
+
+    @Override
+    public SlicePage<TaskResponse> getAllWithPagination(Integer pageSize, Integer pageNumber, Boolean includeTotal) {
+        var tasks = taskDAO.findAllBy(PageRequest.of(pageNumber, pageSize, Sort.by("id")));
+        return new SlicePage<>(
+                tasks.stream()
+                        .map(this::convertToResponse)
+                        .toList(),
+                tasks.hasNext(),
+                Boolean.TRUE.equals(includeTotal) ? taskDAO.estimateCount() : null
+        );
+    }
+
+    @Override
+    public CursorPage<TaskResponse> getAllWithCursor(Integer pageSize, String cursor, TaskSortKey sortKey) {
+        return findPage(Specification.allOf(), sortKey, pageSize, cursor);
+    }
+
+    @Override
+    public CursorPage<TaskResponse> search(TaskSearchRequest request) {
+        var filters = new ArrayList<Specification<Task>>();
+        if (request.getStatus() != null && !request.getStatus().isEmpty()) {
+            filters.add(TaskSpecifications.statusIn(request.getStatus()));
+        }
+        if (Boolean.TRUE.equals(request.getActive())) {
+            filters.add(TaskSpecifications.isActive());
+        }
+        if (request.getPriority() != null && !request.getPriority().isEmpty()) {
+            filters.add(TaskSpecifications.priorityIn(request.getPriority()));
+        }
+        if (request.getAuthorId() != null) {
+            filters.add(TaskSpecifications.authorIs(request.getAuthorId()));
+        }
+        if (request.getExecutorId() != null) {
+            filters.add(TaskSpecifications.executorIs(request.getExecutorId()));
+        }
+        if (request.getLabelPrefix() != null) {
+            filters.add(TaskSpecifications.labelStartsWith(request.getLabelPrefix()));
+        }
+        return findPage(Specification.allOf(filters), request.getSort(), request.getPageSize(), request.getCursor());
     }
 
     @Override
     @Transactional
-    public TaskResponse putUpdate(UUID id, PutTaskRequest request) {
+    public VersionedResponse<TaskResponse> putUpdate(UUID id, PutTaskRequest request, Long expectedVersion) {
+        // prepare
+        var task = getEntity(id);
         // check
+        profileAccessUtil.checkAuthorAuthorization(Set.of(task.getAuthorId()));
         profileAccessUtil.checkAuthorAuthorization(Set.of(request.getAuthorId()));
         checkAuthorExecutorFKConstraint(request.getAuthorId(), request.getExecutorId());
+        checkVersion(task, expectedVersion);
         // logic
-        return convertToResponse(taskDAO.save(convertToEntity(id, request)));
+        modelMapper.map(request, task);
+        // flush increments the version returned in entity tag
+        var savedTask = taskDAO.saveAndFlush(task);
+        publishTaskChanged(savedTask);
+        return convertToVersionedResponse(savedTask);
     }
 
     @Override
     @Transactional
-    public TaskResponse patchStatus(UUID id, String status) {
+    public VersionedResponse<TaskResponse> patchStatus(
+            UUID id,
+            String status,
+            String expectedStatus,
+            Long expectedVersion
+    ) {
+        var newStatus = parseTaskStatus(status);
+        if (expectedStatus != null || expectedVersion != null) {
+            return compareAndSetStatus(
+                    id,
+                    newStatus,
+                    expectedStatus == null ? null : parseTaskStatus(expectedStatus),
+                    expectedVersion
+            );
+        }
         // prepare
         var task = getEntity(id);
         //check
-        profileAccessUtil.checkAuthorAuthorization(Set.of(task.getAuthorId(), task.getExecutorId()));
+        profileAccessUtil.checkAuthorAuthorization(getParticipants(task));
         //logic
-        try {
-            task.setStatus(TaskStatus.valueOf(status));
-            return convertToResponse(taskDAO.save(task));
-        } catch (IllegalArgumentException ex) {
-            throw new UnexpectedRequestParameterException(
-                    String.format(
-                            "%s - unknown task status. Existed values: %s",
-                            status,
-                            Arrays.stream(TaskStatus.values())
-                                    .map(Enum::name)
-                                    .collect(Collectors.joining(", "))
-                    )
-            );
-        }
+        task.setStatus(newStatus);
+        var savedTask = taskDAO.saveAndFlush(task);
+        publishTaskChanged(savedTask);
+        return convertToVersionedResponse(savedTask);
     }
 
     @Override
     @Transactional
     public Boolean delete(UUID id) {
         // check
-        profileAccessUtil.checkAuthorAuthorization(Set.of(getById(id).getAuthorId()));
+        profileAccessUtil.checkAuthorAuthorization(Set.of(getEntity(id).getAuthorId()));
         // logic
         taskCommentDAO.deleteAllByTaskId(id);
         taskDAO.deleteById(id);
+        invalidationBus.publish(new InvalidationEvent.TaskDeleted(id));
         return !taskDAO.existsById(id);
     }
 
     @Override
-    public Collection<TaskResponse> getByProfile(UUID id, String status) {
-        Collection<TaskResponse> result;
+    public CursorPage<TaskResponse> getByProfile(
+            UUID id,
+            String status,
+            String taskStatus,
+            Integer pageSize,
+            String cursor
+    ) {
+        Specification<Task> filter;
         try {
-            result = switch (ProfileStatusForTask.valueOf(status)) {
-                case AUTHOR -> getByAuthorProfile(id);
-                case EXECUTOR -> getByExecutorProfile(id);
+            filter = switch (ProfileStatusForTask.valueOf(status)) {
+                case AUTHOR -> TaskSpecifications.authorIs(id);
+                case EXECUTOR -> TaskSpecifications.executorIs(id);
             };
         } catch (IllegalArgumentException ex) {
             throw new UnexpectedRequestParameterException(
@@ -131,21 +216,199 @@ public class TaskServiceImpl implements TaskService {
             );
         }
 
-        return result;
+        if (taskStatus != null) {
+            filter = filter.and(TaskSpecifications.statusIs(parseTaskStatus(taskStatus)));
+        }
+        return findPage(filter, TaskSortKey.ID, pageSize, cursor);
     }
 
-    private Collection<TaskResponse> getByAuthorProfile(UUID profileId) {
-        var tasks = taskDAO.findTaskByAuthorId(profileId);
-        return tasks.stream()
-                .map(this::convertToResponse)
-                .toList();
+    @Override
+    public CursorPage<TaskSearchHitResponse> searchFullText(
+            String query,
+            Boolean includeComments,
+            Integer pageSize,
+            String cursor
+    ) {
+        checkPageSize(pageSize);
+        if (query == null || query.isBlank()) {
+            throw new UnexpectedRequestParameterException("Search query must not be blank");
+        }
+        var afterRank = Float.POSITIVE_INFINITY;
+        var afterId = new UUID(0, 0);
+        if (cursor != null) {
+            var position = PageCursor.decode(cursor, FULL_TEXT_SORT_KEY);
+            afterRank = parseRank(position.value());
+            afterId = position.id();
+        }
+
+        var hits = taskDAO.searchFullText(
+                query,
+                Boolean.TRUE.equals(includeComments),
+                afterRank,
+                afterId,
+                pageSize + 1
+        );
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            var last = hits.get(pageSize - 1);
+            nextCursor = new PageCursor(FULL_TEXT_SORT_KEY, last.getId(), Float.toString(last.getRank())).encode();
+        }
+        return new CursorPage<>(
+                hits.stream()
+                        .map(it -> new TaskSearchHitResponse(
+                                it.getId(),
+                                it.getLabel(),
+                                it.getDescription(),
+                                TaskStatus.valueOf(it.getStatus()),
+                                TaskPriority.valueOf(it.getPriority()),
+                                it.getAuthorId(),
+                                it.getExecutorId(),
+                                it.getRank(),
+                                it.getLabelHeadline(),
+                                it.getDescriptionHeadline()
+                        ))
+                        .toList(),
+                nextCursor
+        );
     }
 
-    private Collection<TaskResponse> getByExecutorProfile(UUID profileId) {
-        var tasks = taskDAO.findTaskByExecutorId(profileId);
-        return tasks.stream()
-                .map(this::convertToResponse)
-                .toList();
+    private float parseRank(String rank) {
+        try {
+            return Float.parseFloat(rank);
+        } catch (NullPointerException | NumberFormatException ex) {
+            throw new UnexpectedRequestParameterException(String.format("%s - malformed cursor rank", rank));
+        }
+    }
+
+    /**
+     * Keyset pagination of filtered tasks, the seek predicate is added to the filter
+     *
+     * @param filter   task filter
+     * @param sortKey  sort key, identifier is the tiebreaker
+     * @param pageSize count of tasks in the page
+     * @param cursor   cursor of the page, null - first page
+     * @return page of tasks
+     */
+    private CursorPage<TaskResponse> findPage(
+            Specification<Task> filter,
+            TaskSortKey sortKey,
+            Integer pageSize,
+            String cursor
+    ) {
+        checkPageSize(pageSize);
+        if (cursor != null) {
+            var position = PageCursor.decode(cursor, sortKey.name());
+            filter = filter.and(switch (sortKey) {
+                case ID -> TaskSpecifications.idAfter(position.id());
+                case LABEL -> TaskSpecifications.labelAfter(position.value(), position.id());
+            });
+        }
+        var sort = switch (sortKey) {
+            case ID -> Sort.by("id");
+            case LABEL -> Sort.by("label", "id");
+        };
+        // one extra row tells if the next page exists without count query
+        var tasks = taskDAO.findBy(filter, query -> query
+                .sortBy(sort)
+                .limit(pageSize + 1)
+                .all()
+        );
+        return toCursorPage(tasks, pageSize, sortKey);
+    }
+
+    private CursorPage<TaskResponse> toCursorPage(List<Task> tasks, int pageSize, TaskSortKey sortKey) {
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            var last = tasks.get(pageSize - 1);
+            var value = sortKey == TaskSortKey.LABEL ? last.getLabel() : null;
+            nextCursor = new PageCursor(sortKey.name(), last.getId(), value).encode();
+        }
+        return new CursorPage<>(
+                tasks.stream()
+                        .map(this::convertToResponse)
+                        .toList(),
+                nextCursor
+        );
+    }
+
+    private void checkPageSize(Integer pageSize) {
+        if (pageSize < 1 || pageSize > PaginationConstraint.MAX_PAGE_SIZE) {
+            throw new UnexpectedRequestParameterException(String.format(
+                    "%d - page size must be between 1 and %d", pageSize, PaginationConstraint.MAX_PAGE_SIZE
+            ));
+        }
+    }
+
+    /**
+     * Conditional status change by one UPDATE, the task is read only to explain the failure
+     *
+     * @param expectedStatus  expected current status, null - any status
+     * @param expectedVersion expected current version, null - any version
+     */
+    private VersionedResponse<TaskResponse> compareAndSetStatus(
+            UUID id,
+            TaskStatus status,
+            TaskStatus expectedStatus,
+            Long expectedVersion
+    ) {
+        var updated = taskDAO.compareAndSetStatus(
+                id,
+                status.name(),
+                expectedStatus == null ? "" : expectedStatus.name(),
+                expectedVersion == null ? -1 : expectedVersion,
+                jwtUtil.getAuthorizedProfileId()
+        );
+        if (!updated.isEmpty()) {
+            publishTaskChanged(updated.get(0));
+            return convertToVersionedResponse(updated.get(0));
+        }
+        var task = getEntity(id);
+        profileAccessUtil.checkAuthorAuthorization(getParticipants(task));
+        checkVersion(task, expectedVersion);
+        throw new ConcurrentModificationConflictException(String.format(
+                "Task (%s) has status %s, expected %s", id, task.getStatus(), expectedStatus
+        ));
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException(String.format(
+                    "Task (%s) has version %d, expected %d", task.getId(), task.getVersion(), expectedVersion
+            ));
+        }
+    }
+
+    private static Set<UUID> getParticipants(Task task) {
+        return task.getExecutorId() == null
+                ? Set.of(task.getAuthorId())
+                : Set.of(task.getAuthorId(), task.getExecutorId());
+    }
+
+    private void publishTaskChanged(Task task) {
+        invalidationBus.publish(new InvalidationEvent.TaskChanged(
+                task.getId(),
+                task.getLabel(),
+                task.getAuthorId(),
+                task.getExecutorId()
+        ));
+    }
+
+    private TaskStatus parseTaskStatus(String status) {
+        try {
+            return TaskStatus.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            throw new UnexpectedRequestParameterException(
+                    String.format(
+                            "%s - unknown task status. Existed values: %s",
+                            status,
+                            Arrays.stream(TaskStatus.values())
+                                    .map(Enum::name)
+                                    .collect(Collectors.joining(", "))
+                    )
+            );
+        }
     }
 
     private void checkAuthorExecutorFKConstraint(UUID authorId, UUID executorId) {
@@ -172,4 +435,8 @@ public class TaskServiceImpl implements TaskService {
     private TaskResponse convertToResponse(Task entity) {
         return modelMapper.map(entity, TaskResponse.class);
     }
+
+    private VersionedResponse<TaskResponse> convertToVersionedResponse(Task entity) {
+        return new VersionedResponse<>(convertToResponse(entity), entity.getVersion());
+    }
 }
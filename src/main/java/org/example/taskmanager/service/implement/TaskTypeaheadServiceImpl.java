@@ -0,0 +1,186 @@
+package org.example.taskmanager.service.implement;
+
+import org.example.taskmanager.api.response.TaskSuggestionResponse;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.invalidation.InvalidationListener;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.repository.specification.TaskSpecifications;
+import org.example.taskmanager.search.TaskLabelIndex;
+import org.example.taskmanager.service.interfaces.TaskTypeaheadService;
+import org.example.taskmanager.util.JwtUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Typeahead of task labels served from in-memory index.
+ * The index is loaded in background after startup, until then suggestions are queried from the task table.
+ * Task changes of every node come through the invalidation bus
+ */
+@Service
+public class TaskTypeaheadServiceImpl implements TaskTypeaheadService, InvalidationListener, DisposableBean {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskTypeaheadServiceImpl.class.getName());
+
+    private final TaskDAO taskDAO;
+    private final JwtUtil jwtUtil;
+    private final JdbcTemplate loadJdbcTemplate;
+    private final TransactionTemplate loadTransactionTemplate;
+    private final int maxLimit;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "typeahead-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object rebuildLock = new Object();
+    /**
+     * Events received while the index is being loaded, replayed on the loaded index. Guarded by rebuildLock
+     */
+    private List<InvalidationEvent> pendingEvents;
+    private volatile TaskLabelIndex index;
+
+    public TaskTypeaheadServiceImpl(
+            TaskDAO taskDAO,
+            JwtUtil jwtUtil,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${typeahead.load-fetch-size}") int loadFetchSize,
+            @Value("${typeahead.max-limit}") int maxLimit
+    ) {
+        this.taskDAO = taskDAO;
+        this.jwtUtil = jwtUtil;
+        this.maxLimit = maxLimit;
+        this.loadJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.loadJdbcTemplate.setFetchSize(loadFetchSize);
+        // Postgres driver streams result set by fetch size only inside transaction
+        this.loadTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.loadTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public List<TaskSuggestionResponse> suggest(String query, Integer limit) {
+        var profileId = jwtUtil.getAuthorizedProfileId();
+        var boundedLimit = Math.max(1, Math.min(limit, maxLimit));
+        var currentIndex = index;
+        if (currentIndex != null) {
+            return currentIndex.suggest(profileId, query, boundedLimit).stream()
+                    .map(it -> new TaskSuggestionResponse(it.taskId(), it.label()))
+                    .toList();
+        }
+        return suggestFromDatabase(profileId, query, boundedLimit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRebuild() {
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * Loading new index from the task table and replacing the current one
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            pendingEvents = new ArrayList<>();
+        }
+        try {
+            var startTime = System.currentTimeMillis();
+            var count = taskDAO.estimateCount();
+            var newIndex = new TaskLabelIndex((int) Math.min(Integer.MAX_VALUE - 8, count + count / 4));
+            loadTransactionTemplate.executeWithoutResult(status -> loadJdbcTemplate.query(
+                    "SELECT id, label, author_id, executor_id FROM task",
+                    resultSet -> {
+                        newIndex.put(
+                                resultSet.getObject("id", UUID.class),
+                                resultSet.getString("label"),
+                                resultSet.getObject("author_id", UUID.class),
+                                resultSet.getObject("executor_id", UUID.class)
+                        );
+                    }
+            ));
+            synchronized (rebuildLock) {
+                pendingEvents.forEach(event -> apply(newIndex, event));
+                index = newIndex;
+            }
+            LOGGER.info(String.format(
+                    "Task typeahead index loaded: %d tasks in %d ms",
+                    newIndex.size(),
+                    System.currentTimeMillis() - startTime
+            ));
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Task typeahead index loading failed, suggestions are served from database", ex);
+        } finally {
+            synchronized (rebuildLock) {
+                pendingEvents = null;
+            }
+        }
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (event instanceof InvalidationEvent.TasksImported) {
+            rebuildExecutor.execute(this::rebuild);
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            var currentIndex = index;
+            if (currentIndex != null) {
+                apply(currentIndex, event);
+            }
+        }
+    }
+
+    @Override
+    public void onResync() {
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private static void apply(TaskLabelIndex index, InvalidationEvent event) {
+        if (event instanceof InvalidationEvent.TaskChanged taskChanged) {
+            index.put(taskChanged.taskId(), taskChanged.label(), taskChanged.authorId(), taskChanged.executorId());
+        } else if (event instanceof InvalidationEvent.TaskDeleted taskDeleted) {
+            index.remove(taskDeleted.taskId());
+        } else if (event instanceof InvalidationEvent.ExecutorRemoved executorRemoved) {
+            index.removeExecutor(executorRemoved.profileId());
+        }
+    }
+
+    private List<TaskSuggestionResponse> suggestFromDatabase(UUID profileId, String query, int limit) {
+        var prefix = query == null ? "" : query.trim();
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        var filter = TaskSpecifications.authorIs(profileId)
+                .or(TaskSpecifications.executorIs(profileId))
+                .and(TaskSpecifications.labelStartsWith(prefix));
+        return taskDAO.findBy(filter, q -> q
+                        .sortBy(Sort.by("label", "id"))
+                        .limit(limit)
+                        .all()
+                ).stream()
+                .map(it -> new TaskSuggestionResponse(it.getId(), it.getLabel()))
+                .toList();
+    }
+}
@@ -3,8 +3,8 @@ package org.example.taskmanager.service.interfaces;
 import org.example.taskmanager.api.request.profile.AddProfileRequest;
 import org.example.taskmanager.api.request.profile.PutProfileRequest;
 import org.example.taskmanager.api.response.ProfileResponse;
+import org.example.taskmanager.api.response.SlicePage;
 
-import java.util.Collection;
 import java.util.UUID;
 
 public interface ProfileService {
@@ -22,5 +22,5 @@ public interface ProfileService {
 
     Boolean delete(UUID id);
 
-    Collection<ProfileResponse> getAllWithPagination(Integer pageSize, Integer pageNumber);
+    SlicePage<ProfileResponse> getAllWithPagination(Integer pageSize, Integer pageNumber, Boolean includeTotal);
 }
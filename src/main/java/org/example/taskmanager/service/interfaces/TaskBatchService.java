@@ -0,0 +1,17 @@
+package org.example.taskmanager.service.interfaces;
+
+import org.example.taskmanager.api.request.task.TaskBatchRequest;
+import org.example.taskmanager.api.response.TaskBatchResponse;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TaskBatchService {
+
+    /**
+     * Executing all operations in one transaction, the whole batch is rejected if any operation is invalid
+     *
+     * @param request batch operations
+     * @return results of the operations
+     */
+    TaskBatchResponse execute(TaskBatchRequest request);
+}
@@ -2,26 +2,49 @@ package org.example.taskmanager.service.interfaces;
 
 import org.example.taskmanager.api.request.taskComment.AddTaskCommentRequest;
 import org.example.taskmanager.api.request.taskComment.PutTaskCommentRequest;
+import org.example.taskmanager.api.response.SlicePage;
 import org.example.taskmanager.api.response.TaskCommentResponse;
+import org.example.taskmanager.api.response.VersionedResponse;
 
-import java.util.Collection;
 import java.util.UUID;
 
 public interface TaskCommentService {
 
     TaskCommentResponse create(AddTaskCommentRequest addTaskCommentRequest);
 
-    TaskCommentResponse getById(UUID id);
-
-    Collection<TaskCommentResponse> getAllByTaskWithPagination(
+    VersionedResponse<TaskCommentResponse> getById(UUID id);
+
+    /**
+     * Getting comment version without loading the comment
+     *
+     * @param id comment identifier
+     * @return current version
+     */
+    long getVersion(UUID id);
+
+    /**
+     * Building entity tag of the comments page from identifiers and versions of its comments,
+     * without loading comment content
+     *
+     * @param taskId       task identifier
+     * @param pageNumber   offset
+     * @param pageSize     quantity of comments in the page
+     * @param includeTotal total count is a part of the page
+     * @return weak entity tag of the page
+     */
+    String getPageETag(UUID taskId, Integer pageNumber, Integer pageSize, Boolean includeTotal);
+
+    SlicePage<TaskCommentResponse> getAllByTaskWithPagination(
             UUID taskId,
             Integer pageNumber,
-            Integer pageSize
+            Integer pageSize,
+            Boolean includeTotal
     );
 
-    TaskCommentResponse update(
+    VersionedResponse<TaskCommentResponse> update(
             UUID id,
-            PutTaskCommentRequest request);
+            PutTaskCommentRequest request,
+            Long expectedVersion);
 
     Boolean delete(UUID id);
 }
@@ -0,0 +1,14 @@
+package org.example.taskmanager.service.interfaces;
+
+import org.example.taskmanager.api.enums.DataFormat;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+
+@Service
+public interface TaskExportService {
+
+    void exportTasks(DataFormat format, OutputStream outputStream);
+
+    void exportComments(DataFormat format, OutputStream outputStream);
+}
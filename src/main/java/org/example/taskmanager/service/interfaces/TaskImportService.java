@@ -0,0 +1,13 @@
+package org.example.taskmanager.service.interfaces;
+
+import org.example.taskmanager.api.enums.DataFormat;
+import org.example.taskmanager.api.response.TaskImportResponse;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+
+@Service
+public interface TaskImportService {
+
+    TaskImportResponse importTasks(DataFormat format, InputStream inputStream);
+}
@@ -1,11 +1,16 @@
 package org.example.taskmanager.service.interfaces;
 
+import org.example.taskmanager.api.enums.TaskSortKey;
 import org.example.taskmanager.api.request.task.AddTaskRequest;
 import org.example.taskmanager.api.request.task.PutTaskRequest;
+import org.example.taskmanager.api.request.task.TaskSearchRequest;
+import org.example.taskmanager.api.response.CursorPage;
+import org.example.taskmanager.api.response.SlicePage;
 import org.example.taskmanager.api.response.TaskResponse;
+import org.example.taskmanager.api.response.TaskSearchHitResponse;
+import org.example.taskmanager.api.response.VersionedResponse;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
 import java.util.UUID;
 
 @Service
@@ -13,15 +18,29 @@ public interface TaskService {
 
     TaskResponse create(AddTaskRequest request);
 
-    TaskResponse getById(UUID id);
+    VersionedResponse<TaskResponse> getById(UUID id);
 
-    Collection<TaskResponse> getAllWithPagination(Integer pageSize, Integer pageNumber);
+    /**
+     * Getting task version without loading the task
+     *
+     * @param id task identifier
+     * @return current version
+     */
+    long getVersion(UUID id);
 
-    TaskResponse putUpdate(UUID id, PutTaskRequest request);
+    SlicePage<TaskResponse> getAllWithPagination(Integer pageSize, Integer pageNumber, Boolean includeTotal);
+
+    CursorPage<TaskResponse> getAllWithCursor(Integer pageSize, String cursor, TaskSortKey sortKey);
+
+    CursorPage<TaskResponse> search(TaskSearchRequest request);
+
+    CursorPage<TaskSearchHitResponse> searchFullText(String query, Boolean includeComments, Integer pageSize, String cursor);
+
+    VersionedResponse<TaskResponse> putUpdate(UUID id, PutTaskRequest request, Long expectedVersion);
 
     Boolean delete(UUID id);
 
-    Collection<TaskResponse> getByProfile(UUID id, String status);
+    CursorPage<TaskResponse> getByProfile(UUID id, String status, String taskStatus, Integer pageSize, String cursor);
 
-    TaskResponse patchStatus(UUID id, String status);
+    VersionedResponse<TaskResponse> patchStatus(UUID id, String status, String expectedStatus, Long expectedVersion);
 }
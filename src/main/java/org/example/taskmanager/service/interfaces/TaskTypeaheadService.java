@@ -0,0 +1,12 @@
+package org.example.taskmanager.service.interfaces;
+
+import org.example.taskmanager.api.response.TaskSuggestionResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface TaskTypeaheadService {
+
+    List<TaskSuggestionResponse> suggest(String query, Integer limit);
+}
@@ -0,0 +1,78 @@
+package org.example.taskmanager.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader of RFC 4180 CSV records, quoted fields may contain separators, quotes and line breaks.
+ * Unquoted empty field is read as null, quoted empty field as empty string
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private int next = -2;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reading next record
+     *
+     * @return record fields, null - if the input is over
+     * @throws IOException if the input can't be read or a quoted field isn't closed
+     */
+    public List<String> readRecord() throws IOException {
+        if (peek() == -1) {
+            return null;
+        }
+        var fields = new ArrayList<String>();
+        while (true) {
+            fields.add(readField());
+            var ch = read();
+            if (ch == ',') continue;
+            if (ch == '\r' && peek() == '\n') read();
+            return fields;
+        }
+    }
+
+    private String readField() throws IOException {
+        if (peek() != '"') {
+            var builder = new StringBuilder();
+            while (peek() != -1 && peek() != ',' && peek() != '\n' && peek() != '\r') {
+                builder.append((char) read());
+            }
+            return builder.isEmpty() ? null : builder.toString();
+        }
+        read();
+        var builder = new StringBuilder();
+        while (true) {
+            var ch = read();
+            if (ch == -1) {
+                throw new IOException("Quoted field isn't closed");
+            }
+            if (ch == '"') {
+                if (peek() != '"') {
+                    return builder.toString();
+                }
+                read();
+            }
+            builder.append((char) ch);
+        }
+    }
+
+    private int peek() throws IOException {
+        if (next == -2) {
+            next = reader.read();
+        }
+        return next;
+    }
+
+    private int read() throws IOException {
+        var ch = peek();
+        next = -2;
+        return ch;
+    }
+}
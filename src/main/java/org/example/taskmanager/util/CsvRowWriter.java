@@ -0,0 +1,67 @@
+package org.example.taskmanager.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV with header line. Null is written as unquoted empty field, empty string as quoted one,
+ * so {@link CsvRecordReader} reads them back as they were
+ */
+public class CsvRowWriter implements RowWriter {
+
+    private final Writer writer;
+    private final List<String> fields;
+
+    /**
+     * @param outputStream output
+     * @param fields       field names of header line, in order of result set columns
+     */
+    public CsvRowWriter(OutputStream outputStream, List<String> fields) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        this.fields = fields;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(String.join(",", fields));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void writeRow(ResultSet resultSet) throws SQLException {
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) writer.write(',');
+                writeValue(resultSet.getString(i + 1));
+            }
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) return;
+        if (!value.isEmpty() && value.indexOf(',') < 0 && value.indexOf('"') < 0 &&
+                value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.taskmanager.util;
+
+import org.example.taskmanager.exception.PreconditionFailedException;
+
+import java.util.UUID;
+
+/**
+ * Entity tags of versioned resources: strong tag of a single entity is its quoted version,
+ * weak tag of a collection is a hash of identifiers and versions of its items
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private ETags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Checking If-None-Match header by weak comparison
+     *
+     * @param header If-None-Match header value, list of entity tags or *
+     * @param eTag   current entity tag
+     * @return true - if the header contains the current entity tag
+     */
+    public static boolean matches(String header, String eTag) {
+        if (header == null) return false;
+        var current = stripWeakPrefix(eTag);
+        for (var tag : header.split(",")) {
+            var trimmed = tag.trim();
+            if (ANY.equals(trimmed) || stripWeakPrefix(trimmed).equals(current)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Parsing expected version from If-Match header
+     *
+     * @param header If-Match header value
+     * @return expected version, null - if the header is absent or *
+     * @throws PreconditionFailedException if the header isn't a strong tag of a version
+     */
+    public static Long parseVersion(String header) {
+        if (header == null || ANY.equals(header.trim())) {
+            return null;
+        }
+        var tag = header.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException(String.format("%s - entity tag doesn't match any version", header));
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException(String.format("%s - entity tag doesn't match any version", header));
+        }
+    }
+
+    /**
+     * Builder of weak collection tag
+     */
+    public static final class Hasher {
+
+        private long hash = 1125899906842597L;
+
+        public Hasher add(UUID id, Long version) {
+            return add(id.getMostSignificantBits())
+                    .add(id.getLeastSignificantBits())
+                    .add(version == null ? 0 : version);
+        }
+
+        public Hasher add(long value) {
+            hash = 31 * hash + value;
+            return this;
+        }
+
+        public String toETag() {
+            return WEAK_PREFIX + "\"" + Long.toHexString(hash) + "\"";
+        }
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.taskmanager.util;
+
+import java.util.UUID;
+
+/**
+ * Generator of entity identifiers, implementation is chosen by "id.generator" property
+ */
+public interface IdGenerator {
+
+    /**
+     * @return new unique identifier
+     */
+    UUID nextId();
+}
@@ -1,19 +1,25 @@
 package org.example.taskmanager.util;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import lombok.RequiredArgsConstructor;
-import org.example.taskmanager.entity.Jwt;
-import org.example.taskmanager.entity.Profile;
 import org.example.taskmanager.exception.ExpectedEntityNotFoundException;
 import org.example.taskmanager.repository.JwtDAO;
-import org.example.taskmanager.repository.ProfileDAO;
+import org.example.taskmanager.security.AuthenticationMode;
+import org.example.taskmanager.security.PrincipalCache;
+import org.example.taskmanager.security.PrincipalSnapshot;
+import org.example.taskmanager.security.TokenRevocationStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,64 +33,123 @@ public class JwtUtil {
     private static final String EXPIRED_JWT_MESSAGE = "Expired token received";
     private static final String UNEXPECTED_ERROR_MESSAGE = "Unexpected error while validating JWT";
     private static final String NON_EXISTED_TOKEN_MESSAGE = "Non-existed token";
+    private static final String REVOKED_TOKEN_MESSAGE = "Revoked token";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
     private static final Logger LOGGER = Logger.getLogger(JwtUtil.class.getName());
 
-    private final ProfileDAO profileDAO;
+    @Value("${token.access.mode}")
+    private AuthenticationMode authenticationMode;
+
+    private final PrincipalCache principalCache;
     private final JwtDAO jwtDAO;
+    private final TokenRevocationStore tokenRevocationStore;
 
     //TODO('get Authorized profile data')
-    public Profile getExistedAuthorizedProfileFromContext() {
+    public PrincipalSnapshot getExistedAuthorizedProfileFromContext() {
         return getExistedAuthorizedProfile(
                 SecurityContextHolder.getContext().getAuthentication()
         );
     }
 
-    public Profile getExistedAuthorizedProfile(Authentication auth) {
+    public PrincipalSnapshot getExistedAuthorizedProfile(Authentication auth) {
         if (auth != null) {
             Object principal = auth.getPrincipal();
-            if (principal instanceof Profile) {
-                var profileEntity = (Profile) auth.getPrincipal();
-                return profileDAO.findByEmail(profileEntity.getEmail());
+            if (principal instanceof PrincipalSnapshot snapshot) {
+                if (authenticationMode == AuthenticationMode.CLAIMS) {
+                    return snapshot;
+                }
+                return principalCache.getByEmail(snapshot.email());
             }
         }
         throw new ExpectedEntityNotFoundException(NON_PROFILE_EXCEPTION_MESSAGE);
     }
 
-    public boolean isTokenValid(String token, Key key) {
-        if (jwtDAO.findByToken(token) == null) {
-            LOGGER.info(NON_EXISTED_TOKEN_MESSAGE);
-            throw new AccessDeniedException(NON_EXISTED_TOKEN_MESSAGE);
-        }
+    /**
+     * Getting authorized profile identifier, in claims authentication mode the profile repository isn't used
+     *
+     * @return authorized profile identifier
+     */
+    public UUID getAuthorizedProfileId() {
+        return getExistedAuthorizedProfileFromContext().id();
+    }
+
+    /**
+     * Parsing and verifying token signature and expiration
+     *
+     * @param token  token
+     * @param parser prebuilt parser with the signing key of the token type
+     * @return verified token's claims
+     */
+    public Claims getVerifiedClaims(String token, JwtParser parser) {
         try {
-            Jwts.parser()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             LOGGER.log(Level.INFO, EXPIRED_JWT_MESSAGE, e);
             throw new AccessDeniedException(EXPIRED_JWT_MESSAGE);
+        } catch (JwtException | IllegalArgumentException e) {
+            LOGGER.log(Level.INFO, WRONG_SIGNATURE_MESSAGE, e);
+            throw new AccessDeniedException(WRONG_SIGNATURE_MESSAGE);
         } catch (Exception e) {
             LOGGER.log(Level.INFO, UNEXPECTED_ERROR_MESSAGE, e);
             throw new AccessDeniedException(UNEXPECTED_ERROR_MESSAGE);
         }
     }
 
-    public Profile checkForExistedProfileProfileOrAccessDenied() {
+    /**
+     * Checking token against in-memory revocation store, without repository lookup.
+     * Tokens issued without identifier are checked in the repository
+     *
+     * @param claims verified token's claims
+     * @param token  token
+     */
+    public void checkTokenNotRevoked(Claims claims, String token) {
+        if (claims.getId() == null) {
+            checkTokenRegistered(token);
+            return;
+        }
+        if (tokenRevocationStore.isRevoked(UUID.fromString(claims.getId()))) {
+            LOGGER.info(REVOKED_TOKEN_MESSAGE);
+            throw new AccessDeniedException(REVOKED_TOKEN_MESSAGE);
+        }
+    }
+
+    /**
+     * Checking token for being registered and not revoked in the token repository
+     *
+     * @param token token
+     */
+    public void checkTokenRegistered(String token) {
+        if (!jwtDAO.existsByTokenDigestAndRevokedAtIsNull(digest(token))) {
+            LOGGER.info(NON_EXISTED_TOKEN_MESSAGE);
+            throw new AccessDeniedException(NON_EXISTED_TOKEN_MESSAGE);
+        }
+    }
+
+    /**
+     * Getting fixed-width token digest, tokens are stored and looked up by it
+     *
+     * @param token token
+     * @return SHA-256 digest of the token
+     */
+    public static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public PrincipalSnapshot checkForExistedProfileProfileOrAccessDenied() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null) {
             Object principal = auth.getPrincipal();
-            if (principal instanceof Profile) {
-                var profileEntity = (Profile) auth.getPrincipal();
-                return profileDAO.findByEmail(profileEntity.getEmail());
+            if (principal instanceof PrincipalSnapshot snapshot) {
+                if (authenticationMode == AuthenticationMode.CLAIMS) {
+                    return snapshot;
+                }
+                return principalCache.getByEmail(snapshot.email());
             }
         }
         throw new AccessDeniedException(NON_PROFILE_EXCEPTION_MESSAGE);
     }
-
-    public Jwt getEntity(UUID id) {
-        return jwtDAO.findById(id).orElseThrow(
-                () -> new ExpectedEntityNotFoundException(String.format("Jwt token (%s) not fount", id))
-        );
-    }
 }
@@ -0,0 +1,58 @@
+package org.example.taskmanager.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * One JSON object per line, values are written by streaming generator without intermediate objects
+ */
+public class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final List<String> fields;
+
+    /**
+     * @param jsonFactory  factory of JSON generator
+     * @param outputStream output
+     * @param fields       field names of JSON objects, in order of result set columns
+     */
+    public NdjsonRowWriter(JsonFactory jsonFactory, OutputStream outputStream, List<String> fields) {
+        try {
+            this.generator = jsonFactory.createGenerator(outputStream);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.generator.setRootValueSeparator(null);
+        this.fields = fields;
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void writeRow(ResultSet resultSet) throws SQLException {
+        try {
+            generator.writeStartObject();
+            for (int i = 0; i < fields.size(); i++) {
+                generator.writeStringField(fields.get(i), resultSet.getString(i + 1));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
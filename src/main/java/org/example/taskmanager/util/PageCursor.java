@@ -0,0 +1,53 @@
+package org.example.taskmanager.util;
+
+import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of keyset pagination: sort key, value of the sort key and identifier of the last returned row.
+ * Clients get it as opaque base64url string
+ *
+ * @param sortKey sort key name
+ * @param id      identifier of the last returned row, tiebreaker of the sort
+ * @param value   sort key value of the last returned row, null - if rows are sorted by identifier
+ */
+public record PageCursor(String sortKey, UUID id, String value) {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Encoding cursor to opaque string
+     *
+     * @return base64url cursor
+     */
+    public String encode() {
+        var raw = sortKey + SEPARATOR + id + SEPARATOR + (value == null ? "" : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decoding cursor
+     *
+     * @param cursor          base64url cursor
+     * @param expectedSortKey sort key of the current request
+     * @return cursor
+     * @throws UnexpectedRequestParameterException if the cursor is malformed or was issued for another sort
+     */
+    public static PageCursor decode(String cursor, String expectedSortKey) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSortKey)) {
+                throw new UnexpectedRequestParameterException(
+                        String.format("Cursor doesn't match sort %s", expectedSortKey)
+                );
+            }
+            return new PageCursor(parts[0], UUID.fromString(parts[1]), parts[2].isEmpty() ? null : parts[2]);
+        } catch (IllegalArgumentException ex) {
+            throw new UnexpectedRequestParameterException(String.format("%s - malformed cursor", cursor));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.taskmanager.util;
+
+public class PaginationConstraint {
+
+    /**
+     * Maximum count of rows in one page, bounds memory of the request and keeps page size + 1 from overflow
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+}
@@ -18,7 +18,7 @@ public class ProfileAccessUtil {
     private final JwtUtil jwtUtil;
 
     public void checkAuthorAuthorization(Set<UUID> ids) {
-        var authId = jwtUtil.getExistedAuthorizedProfileFromContext().getId();
+        var authId = jwtUtil.getAuthorizedProfileId();
 
         if (ids.stream().noneMatch(id -> id.equals(authId))) {
             LOGGER.info(String.format(
@@ -4,8 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.example.taskmanager.api.response.ProfileResponse;
 import org.example.taskmanager.entity.Profile;
 import org.example.taskmanager.exception.ExpectedEntityNotFoundException;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
 import org.example.taskmanager.repository.ProfileDAO;
+import org.example.taskmanager.security.PrincipalCache;
+import org.example.taskmanager.security.PrincipalSnapshot;
 import org.modelmapper.ModelMapper;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
@@ -20,6 +25,8 @@ public class ProfileUtil {
 
     private final ModelMapper modelMapper;
     private final ProfileDAO profileDAO;
+    private final PrincipalCache principalCache;
+    private final InvalidationBus invalidationBus;
 
     public ProfileResponse tryToGetProfile(UUID id) {
         return convertToResponse(getEntity(id));
@@ -32,27 +39,43 @@ public class ProfileUtil {
     }
 
     /**
-     * Getting profile entity by email
+     * Getting principal by email through principal cache
      *
      * @param email email
-     * @return profile response model entity
+     * @return principal snapshot
      */
-    private Profile getProfileEntityByEmail(String email) {
+    private PrincipalSnapshot getPrincipalByEmail(String email) {
         return checkProfileForExistByEmail(email);
     }
 
     public UserDetailsService userDetailsService() {
-        return this::getProfileEntityByEmail;
+        return this::getPrincipalByEmail;
     }
 
-    private Profile checkProfileForExistByEmail(String email) {
+    /**
+     * Storing password rehashed on successful sign-in, when hashing cost was changed
+     *
+     * @return password updating service
+     */
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            var rehashedProfile = profileDAO.findByEmail(user.getUsername());
+            rehashedProfile.setPassword(newPassword);
+            profileDAO.save(rehashedProfile);
+            invalidationBus.publish(new InvalidationEvent.ProfileChanged(rehashedProfile.getId()));
+            LOGGER.info(String.format("Password of profile (%s) is rehashed", rehashedProfile.getId()));
+            return PrincipalSnapshot.of(rehashedProfile);
+        };
+    }
+
+    private PrincipalSnapshot checkProfileForExistByEmail(String email) {
         var message = String.format("Profile with email \"%s\" non-exist", email);
-        var profileEntity = profileDAO.findByEmail(email);
-        if (profileEntity == null) {
+        var principal = principalCache.getByEmail(email);
+        if (principal == null) {
             LOGGER.info(message);
             throw new ExpectedEntityNotFoundException(message);
         }
-        return profileEntity;
+        return principal;
     }
 
     public  <T> Profile convertToEntity(UUID id, T dto) {
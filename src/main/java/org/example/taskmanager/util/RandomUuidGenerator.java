@@ -0,0 +1,14 @@
+package org.example.taskmanager.util;
+
+import java.util.UUID;
+
+/**
+ * Random (version 4) identifiers
+ */
+public class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
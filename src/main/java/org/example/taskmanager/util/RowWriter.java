@@ -0,0 +1,18 @@
+package org.example.taskmanager.util;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Streaming writer of query rows, values are read from result set columns by position
+ */
+public interface RowWriter extends AutoCloseable {
+
+    void writeHeader() throws IOException;
+
+    void writeRow(ResultSet resultSet) throws SQLException;
+
+    @Override
+    void close() throws IOException;
+}
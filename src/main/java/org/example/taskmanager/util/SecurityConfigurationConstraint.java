@@ -6,6 +6,7 @@ public class SecurityConfigurationConstraint {
     public static final String SWAGGER_UI = "/swagger-ui/**";
     public static final String SWAGGER_RESOURCES = "/swagger-resources/*";
     public static final String SWAGGER_DOC_API = "/v3/api-docs/**";
+    public static final String AUTH_LOGOUT = "/auth/logout";
 
     public static final String[] PERMITTED_ALL = {
             AUTH,
@@ -13,4 +14,11 @@ public class SecurityConfigurationConstraint {
             SWAGGER_RESOURCES,
             SWAGGER_DOC_API
     };
+
+    /**
+     * Permitted routes which still need the authorized profile
+     */
+    public static final String[] TOKEN_REQUIRED = {
+            AUTH_LOGOUT
+    };
 }
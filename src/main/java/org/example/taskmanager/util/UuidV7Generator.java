@@ -0,0 +1,44 @@
+package org.example.taskmanager.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered (version 7, RFC 9562) identifiers: 48 bits of unix milliseconds, 12 bits of counter, 62 random bits.
+ * The counter keeps identifiers strictly increasing within a millisecond and across clock moving back,
+ * its overflow borrows the next millisecond. The state is one atomic long, so the generator is lock-free
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    /**
+     * Last used milliseconds and counter: millis << 12 | counter
+     */
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    public UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        var now = clock.getAsLong() << COUNTER_BITS;
+        var timestamp = lastTimestamp.updateAndGet(last -> Math.max(now, last + 1));
+        var mostSigBits = (timestamp >>> COUNTER_BITS) << 16
+                | VERSION
+                | (timestamp & ((1 << COUNTER_BITS) - 1));
+        var leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
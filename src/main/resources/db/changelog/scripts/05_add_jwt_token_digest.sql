@@ -0,0 +1,14 @@
+ALTER TABLE jwt_token ADD COLUMN token_digest BYTEA;
+
+UPDATE jwt_token SET token_digest = sha256(convert_to(token, 'UTF8'));
+
+DELETE FROM jwt_token duplicate
+    USING jwt_token origin
+    WHERE duplicate.token_digest = origin.token_digest
+      AND duplicate.id > origin.id;
+
+ALTER TABLE jwt_token ALTER COLUMN token_digest SET NOT NULL;
+
+CREATE UNIQUE INDEX jwt_token_token_digest_u ON jwt_token (token_digest);
+
+COMMENT ON COLUMN jwt_token.token_digest IS 'SHA-256 digest of the token value, used for token lookup';
@@ -0,0 +1,5 @@
+ALTER TABLE jwt_token ADD COLUMN revoked_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX jwt_token_profile_id_idx ON jwt_token (profile_id) WHERE revoked_at IS NULL;
+
+COMMENT ON COLUMN jwt_token.revoked_at IS 'Token revocation time, NULL for live tokens';
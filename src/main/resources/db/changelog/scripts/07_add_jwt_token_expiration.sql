@@ -0,0 +1,14 @@
+ALTER TABLE jwt_token ADD COLUMN expires_at TIMESTAMP WITH TIME ZONE;
+
+-- exp claim is taken from the base64url encoded token payload
+UPDATE jwt_token
+SET expires_at = to_timestamp((convert_from(decode(
+        rpad(translate(split_part(token, '.', 2), '-_', '+/'),
+             ((length(split_part(token, '.', 2)) + 3) / 4) * 4, '='),
+        'base64'), 'UTF8')::json ->> 'exp')::bigint);
+
+ALTER TABLE jwt_token ALTER COLUMN expires_at SET NOT NULL;
+
+CREATE INDEX jwt_token_expires_at_idx ON jwt_token (expires_at);
+
+COMMENT ON COLUMN jwt_token.expires_at IS 'Token expiration time (exp claim), expired rows are purged in background';
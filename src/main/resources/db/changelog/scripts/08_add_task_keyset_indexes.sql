@@ -0,0 +1,2 @@
+-- keyset pagination of tasks sorted by label, id is the tiebreaker
+CREATE INDEX task_label_id_idx ON task (label, id);
@@ -0,0 +1,2 @@
+-- comments of a task are paged by id and counted by task_id
+CREATE INDEX task_comment_task_id_id_idx ON task_comment (task_id, id);
@@ -0,0 +1,6 @@
+-- profile's tasks are paged by id, with and without task status filter
+-- status is checked on heap: indexes referencing status would make status flips non-HOT updates
+CREATE INDEX task_author_id_id_idx ON task (author_id, id);
+CREATE INDEX task_executor_id_id_idx ON task (executor_id, id);
+
+CREATE INDEX task_comment_author_id_idx ON task_comment (author_id);
@@ -0,0 +1,2 @@
+-- label prefix search (LIKE 'prefix%') independent of database collation
+CREATE INDEX task_label_pattern_idx ON task (label text_pattern_ops);
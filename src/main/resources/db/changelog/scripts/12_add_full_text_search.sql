@@ -0,0 +1,16 @@
+-- 'simple' configuration: labels and descriptions are written in different languages
+ALTER TABLE task ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(label, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX task_search_vector_idx ON task USING GIN (search_vector);
+
+ALTER TABLE task_comment ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    to_tsvector('simple', content)
+) STORED;
+
+CREATE INDEX task_comment_search_vector_idx ON task_comment USING GIN (search_vector);
+
+COMMENT ON COLUMN task.search_vector IS 'Full text search vector: label (weight A), description (weight B)';
+COMMENT ON COLUMN task_comment.search_vector IS 'Full text search vector of the comment content';
@@ -0,0 +1,3 @@
+-- status flips are the bulk of task writes; they are HOT updates because no index references status
+-- free space on every page keeps new row versions on the same page, applies to newly written pages
+ALTER TABLE task SET (fillfactor = 80);
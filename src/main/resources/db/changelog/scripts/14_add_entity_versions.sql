@@ -0,0 +1,8 @@
+-- optimistic locking versions, incremented by every update of the row
+ALTER TABLE profile ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_comment ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN profile.version IS 'Version of the profile row';
+COMMENT ON COLUMN task.version IS 'Version of the task row';
+COMMENT ON COLUMN task_comment.version IS 'Version of the task comment row';
@@ -0,0 +1,71 @@
+package org.example.taskmanager.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.taskmanager.entity.Profile;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.entity.TaskComment;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class SecondLevelCacheInvalidationListenerTest {
+
+    private Cache cache;
+    private SecondLevelCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(Cache.class);
+        var sessionFactory = mock(SessionFactory.class);
+        var entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        listener = new SecondLevelCacheInvalidationListener(entityManagerFactory);
+    }
+
+    @Test
+    void testTaskChangedEvictsTask() {
+        var taskId = UUID.randomUUID();
+
+        listener.onInvalidation(new InvalidationEvent.TaskChanged(taskId, "Task", UUID.randomUUID(), null));
+
+        verify(cache).evictEntityData(Task.class, taskId);
+    }
+
+    @Test
+    void testTaskDeletedEvictsTaskAndComments() {
+        var taskId = UUID.randomUUID();
+
+        listener.onInvalidation(new InvalidationEvent.TaskDeleted(taskId));
+
+        verify(cache).evictEntityData(Task.class, taskId);
+        verify(cache).evictEntityData(TaskComment.class);
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    void testProfileChangedEvictsProfileAndQueries() {
+        var profileId = UUID.randomUUID();
+
+        listener.onInvalidation(new InvalidationEvent.ProfileChanged(profileId));
+
+        verify(cache).evictEntityData(Profile.class, profileId);
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    void testTokensRevokedKeepsCache() {
+        listener.onInvalidation(new InvalidationEvent.TokensRevoked(List.of(UUID.randomUUID())));
+
+        verifyNoInteractions(cache);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.taskmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.entity.TaskComment;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Bulk writes are counted by Hibernate statistics on in-memory database:
+ * one statement whatever the count of changed rows
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class BulkStatementTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private TaskDAO taskDAO;
+    @Autowired
+    private TaskCommentDAO taskCommentDAO;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testDeleteTaskCommentsByOneStatement() {
+        var task = taskDAO.save(task(UUID.randomUUID()));
+        IntStream.range(0, ROWS).forEach(i -> taskCommentDAO.save(
+                new TaskComment(UUID.randomUUID(), task.getAuthorId(), task.getId(), "Comment " + i, null)
+        ));
+        flushAndClear();
+
+        var deleted = taskCommentDAO.deleteAllByTaskId(task.getId());
+
+        assertEquals(ROWS, deleted);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, taskCommentDAO.countByTaskId(task.getId()));
+    }
+
+    @Test
+    void testClearExecutorByOneStatement() {
+        var executorId = UUID.randomUUID();
+        var ids = IntStream.range(0, ROWS).mapToObj(i -> taskDAO.save(task(executorId)).getId()).toList();
+        flushAndClear();
+
+        var updated = taskDAO.clearExecutor(executorId);
+
+        assertEquals(ROWS, updated);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        entityManager.clear();
+        for (var task : taskDAO.findAllById(ids)) {
+            assertNull(task.getExecutorId());
+            // bulk statement bypasses @Version, the version is incremented by the statement itself
+            assertEquals(1L, task.getVersion());
+        }
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private static Task task(UUID executorId) {
+        return new Task(
+                UUID.randomUUID(), "Task", null, TaskStatus.WAITING, TaskPriority.LOW, UUID.randomUUID(), executorId, null
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.taskmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.taskmanager.api.enums.JwtType;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.entity.Jwt;
+import org.example.taskmanager.entity.Profile;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.entity.TaskComment;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Entities built by create paths are saved by plain INSERT: one statement, no preceding SELECT.
+ * Entities are built the way task, comment, profile creation, sign-up and token registration build them
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class EntityInsertStatementTest {
+
+    @Autowired
+    private TaskDAO taskDAO;
+    @Autowired
+    private TaskCommentDAO taskCommentDAO;
+    @Autowired
+    private ProfileDAO profileDAO;
+    @Autowired
+    private JwtDAO jwtDAO;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testCreateTask() {
+        taskDAO.save(new Task(
+                UUID.randomUUID(), "Task", null, TaskStatus.WAITING, TaskPriority.LOW, UUID.randomUUID(), null, null
+        ));
+        entityManager.flush();
+
+        assertInsertedByOneStatement(1);
+    }
+
+    @Test
+    void testCreateTaskComment() {
+        taskCommentDAO.save(new TaskComment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Comment", null));
+        entityManager.flush();
+
+        assertInsertedByOneStatement(1);
+    }
+
+    @Test
+    void testCreateProfile() {
+        profileDAO.save(profile("profile@example.org"));
+        entityManager.flush();
+
+        assertInsertedByOneStatement(1);
+    }
+
+    @Test
+    void testSignUp() {
+        profileDAO.save(profile("sign-up@example.org"));
+        entityManager.flush();
+
+        assertInsertedByOneStatement(1);
+    }
+
+    @Test
+    void testRegisterTokens() {
+        var profileId = UUID.randomUUID();
+        var expiresAt = Instant.now().plusSeconds(3600);
+        jwtDAO.saveAll(List.of(
+                new Jwt(UUID.randomUUID(), profileId, "access", new byte[32], JwtType.ACCESS, expiresAt, null),
+                new Jwt(UUID.randomUUID(), profileId, "refresh", new byte[32], JwtType.REFRESH, expiresAt, null)
+        ));
+        entityManager.flush();
+
+        // both tokens are inserted by one batched statement
+        assertInsertedByOneStatement(2);
+    }
+
+    private void assertInsertedByOneStatement(int rows) {
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(rows, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private static Profile profile(String email) {
+        return Profile.builder()
+                .id(UUID.randomUUID())
+                .name("Test")
+                .email(email)
+                .password("hash")
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.taskmanager.repository;
+
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskSortKey;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.api.response.TaskResponse;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.service.implement.TaskServiceImpl;
+import org.example.taskmanager.util.IdGenerator;
+import org.example.taskmanager.util.JwtUtil;
+import org.example.taskmanager.util.ProfileAccessUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unfiltered task listing pages through the same keyset query as filtered search
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import({TaskServiceImpl.class, ModelMapper.class})
+public class TaskKeysetPageTest {
+
+    private static final int ROWS = 23;
+    private static final int PAGE_SIZE = 5;
+    /**
+     * Database order of identifiers: unsigned, unlike {@link UUID#compareTo}
+     */
+    private static final Comparator<Task> BY_ID = Comparator.comparing(task -> task.getId().toString());
+
+    @MockBean
+    private ProfileAccessUtil profileAccessUtil;
+    @MockBean
+    private InvalidationBus invalidationBus;
+    @MockBean
+    private IdGenerator idGenerator;
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskDAO taskDAO;
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        // duplicated labels check the identifier tiebreaker
+        tasks = taskDAO.saveAllAndFlush(IntStream.range(0, ROWS).mapToObj(i -> new Task(
+                UUID.randomUUID(), "Task " + (i % 7), null, TaskStatus.WAITING, TaskPriority.LOW, UUID.randomUUID(), null, null
+        )).toList());
+    }
+
+    @Test
+    void testPagesOrderedById() {
+        assertEquals(
+                tasks.stream().sorted(BY_ID).map(Task::getId).toList(),
+                readAllPages(TaskSortKey.ID)
+        );
+    }
+
+    @Test
+    void testPagesOrderedByLabel() {
+        assertEquals(
+                tasks.stream()
+                        .sorted(Comparator.comparing(Task::getLabel).thenComparing(BY_ID))
+                        .map(Task::getId)
+                        .toList(),
+                readAllPages(TaskSortKey.LABEL)
+        );
+    }
+
+    private List<UUID> readAllPages(TaskSortKey sortKey) {
+        var ids = new ArrayList<UUID>();
+        String cursor = null;
+        do {
+            var page = taskService.getAllWithCursor(PAGE_SIZE, cursor, sortKey);
+            page.getItems().stream().map(TaskResponse::getId).forEach(ids::add);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
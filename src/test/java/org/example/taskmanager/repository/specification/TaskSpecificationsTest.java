@@ -0,0 +1,101 @@
+package org.example.taskmanager.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.entity.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TaskSpecificationsTest {
+
+    private Root<Task> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder cb;
+    private Path statusPath;
+    private Path priorityPath;
+    private Path labelPath;
+    private Path idPath;
+
+    @BeforeEach
+    void setUp() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        cb = mock(CriteriaBuilder.class);
+        statusPath = mock(Path.class);
+        priorityPath = mock(Path.class);
+        labelPath = mock(Path.class);
+        idPath = mock(Path.class);
+        when(root.get("status")).thenReturn(statusPath);
+        when(root.get("priority")).thenReturn(priorityPath);
+        when(root.get("label")).thenReturn(labelPath);
+        when(root.get("id")).thenReturn(idPath);
+    }
+
+    @Test
+    void testEscapeLike() {
+        assertEquals("100\\% done\\_\\\\", TaskSpecifications.escapeLike("100% done_\\"));
+    }
+
+    @Test
+    void testEscapeLikeWithoutWildcards() {
+        assertEquals("label", TaskSpecifications.escapeLike("label"));
+    }
+
+    @Test
+    void testStatusAndPriorityFiltersAreCombinedByAnd() {
+        var statuses = Set.of(TaskStatus.WAITING, TaskStatus.PROCESSING);
+        var priorities = Set.of(TaskPriority.HIGH);
+        var statusIn = mock(Predicate.class);
+        var priorityIn = mock(Predicate.class);
+        var both = mock(Predicate.class);
+        when(statusPath.in(statuses)).thenReturn(statusIn);
+        when(priorityPath.in(priorities)).thenReturn(priorityIn);
+        when(cb.and(statusIn, priorityIn)).thenReturn(both);
+
+        var predicate = Specification.allOf(
+                TaskSpecifications.statusIn(statuses),
+                TaskSpecifications.priorityIn(priorities)
+        ).toPredicate(root, query, cb);
+
+        assertSame(both, predicate);
+    }
+
+    @Test
+    void testLabelAfterSeeksByLabelThenId() {
+        var label = "Task";
+        var id = UUID.randomUUID();
+        var labelFrom = mock(Predicate.class);
+        var labelGreater = mock(Predicate.class);
+        var labelEqual = mock(Predicate.class);
+        var idGreater = mock(Predicate.class);
+        var sameLabelNextId = mock(Predicate.class);
+        var afterPosition = mock(Predicate.class);
+        var seek = mock(Predicate.class);
+        when(cb.greaterThanOrEqualTo(labelPath, label)).thenReturn(labelFrom);
+        when(cb.greaterThan(labelPath, label)).thenReturn(labelGreater);
+        when(cb.equal(labelPath, label)).thenReturn(labelEqual);
+        when(cb.greaterThan(idPath, id)).thenReturn(idGreater);
+        when(cb.and(labelEqual, idGreater)).thenReturn(sameLabelNextId);
+        when(cb.or(labelGreater, sameLabelNextId)).thenReturn(afterPosition);
+        when(cb.and(labelFrom, afterPosition)).thenReturn(seek);
+
+        var predicate = TaskSpecifications.labelAfter(label, id).toPredicate(root, query, cb);
+
+        assertSame(seek, predicate);
+    }
+}
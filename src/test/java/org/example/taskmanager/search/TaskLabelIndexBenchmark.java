@@ -0,0 +1,104 @@
+package org.example.taskmanager.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead index build time and query latency on synthetic labels.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark.include=TaskLabelIndexBenchmark}
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskLabelIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "fix", "login", "page", "deploy", "release", "update", "database", "migration", "report", "export",
+            "import", "review", "service", "cache", "search", "profile", "comment", "token", "refresh", "index",
+            "timeout", "retry", "queue", "notify", "payment", "invoice", "upload", "download", "audit", "metrics"
+    };
+    private static final String[] QUERIES = {"dep", "login pa", "mig", "cache inv", "rep", "tok", "exp", "se"};
+
+    @Param("1000000")
+    private int labelCount;
+    @Param("1000")
+    private int profileCount;
+
+    private UUID[] taskIds;
+    private String[] labels;
+    private UUID[] authors;
+    private UUID[] executors;
+    private UUID[] profiles;
+    private TaskLabelIndex index;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+        profiles = new UUID[profileCount];
+        for (int i = 0; i < profileCount; i++) {
+            profiles[i] = UUID.randomUUID();
+        }
+        taskIds = new UUID[labelCount];
+        labels = new String[labelCount];
+        authors = new UUID[labelCount];
+        executors = new UUID[labelCount];
+        for (int i = 0; i < labelCount; i++) {
+            taskIds[i] = UUID.randomUUID();
+            labels[i] = label(random);
+            authors[i] = profiles[random.nextInt(profileCount)];
+            executors[i] = random.nextBoolean() ? null : profiles[random.nextInt(profileCount)];
+        }
+        index = build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 3)
+    public TaskLabelIndex buildIndex() {
+        return build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<TaskLabelIndex.Suggestion> suggest() {
+        var i = query++;
+        return index.suggest(profiles[i % profileCount], QUERIES[i % QUERIES.length], 10);
+    }
+
+    private TaskLabelIndex build() {
+        var built = new TaskLabelIndex(labelCount);
+        for (int i = 0; i < labelCount; i++) {
+            built.put(taskIds[i], labels[i], authors[i], executors[i]);
+        }
+        return built;
+    }
+
+    private static String label(Random random) {
+        var words = 2 + random.nextInt(4);
+        var label = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < words; i++) {
+            label.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return label.append(' ').append(random.nextInt(10_000)).toString();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.taskmanager.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskLabelIndexTest {
+
+    private final UUID author = UUID.randomUUID();
+    private final UUID executor = UUID.randomUUID();
+    private final UUID stranger = UUID.randomUUID();
+    private TaskLabelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskLabelIndex(16);
+    }
+
+    @Test
+    void testPrefixMatchesGoFirst() {
+        index.put(UUID.randomUUID(), "Fix login page", author, null);
+        index.put(UUID.randomUUID(), "Login service", author, null);
+        index.put(UUID.randomUUID(), "Relogin flow", author, null);
+
+        assertEquals(
+                List.of("Login service", "Fix login page", "Relogin flow"),
+                labels(index.suggest(author, "LOG", 10))
+        );
+    }
+
+    @Test
+    void testSuggestionsAreScopedByProfile() {
+        index.put(UUID.randomUUID(), "Deploy release", author, executor);
+
+        assertEquals(1, index.suggest(author, "deploy", 10).size());
+        assertEquals(1, index.suggest(executor, "de", 10).size());
+        assertTrue(index.suggest(stranger, "deploy", 10).isEmpty());
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        var taskId = UUID.randomUUID();
+        index.put(taskId, "Old label", author, executor);
+        index.put(taskId, "New label", author, null);
+
+        assertEquals(List.of("New label"), labels(index.suggest(author, "label", 10)));
+        assertTrue(index.suggest(executor, "label", 10).isEmpty());
+
+        index.remove(taskId);
+
+        assertTrue(index.suggest(author, "label", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testPutOfUnchangedTaskKeepsSlot() {
+        var taskId = UUID.randomUUID();
+        index.put(taskId, "Deploy release", author, executor);
+
+        index.put(taskId, "Deploy release", author, executor);
+        assertEquals(0, index.deadSlotCount());
+
+        index.put(taskId, "Deploy release", author, null);
+        assertEquals(1, index.deadSlotCount());
+        assertEquals(0, index.suggest(executor, "deploy", 10).size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testRemoveExecutor() {
+        index.put(UUID.randomUUID(), "Write docs", author, executor);
+        index.removeExecutor(executor);
+
+        assertTrue(index.suggest(executor, "docs", 10).isEmpty());
+        assertEquals(1, index.suggest(author, "docs", 10).size());
+    }
+
+    @Test
+    void testCompactionKeepsLiveTasks() {
+        var taskId = UUID.randomUUID();
+        for (int i = 0; i < 5000; i++) {
+            index.put(taskId, "Task " + i, author, null);
+        }
+
+        assertEquals(List.of("Task 4999"), labels(index.suggest(author, "task", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testLimit() {
+        for (int i = 0; i < 100; i++) {
+            index.put(UUID.randomUUID(), "Task " + i, author, null);
+        }
+
+        assertEquals(5, index.suggest(author, "task", 5).size());
+    }
+
+    private static List<String> labels(List<TaskLabelIndex.Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(TaskLabelIndex.Suggestion::label)
+                .toList();
+    }
+}
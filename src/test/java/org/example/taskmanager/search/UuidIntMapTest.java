@@ -0,0 +1,55 @@
+package org.example.taskmanager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UuidIntMapTest {
+
+    @Test
+    void testMatchesHashMapUnderRandomPutsAndRemoves() {
+        var random = new Random(42);
+        var map = new UuidIntMap(4);
+        var expected = new HashMap<UUID, Integer>();
+        var keys = new ArrayList<UUID>();
+        for (int i = 0; i < 2_000; i++) {
+            keys.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            var key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                var removed = expected.remove(key);
+                assertEquals(removed == null ? UuidIntMap.ABSENT : removed, map.remove(key));
+            } else {
+                var value = random.nextInt(Integer.MAX_VALUE);
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (var key : keys) {
+            assertEquals(expected.getOrDefault(key, UuidIntMap.ABSENT), map.get(key));
+        }
+    }
+
+    @Test
+    void testLongIntMapGrows() {
+        var map = new LongIntMap(1);
+        for (int i = 0; i < 10_000; i++) {
+            map.put((long) i << 32, i);
+        }
+
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get((long) i << 32));
+        }
+        assertEquals(LongIntMap.ABSENT, map.get(-1L));
+    }
+}
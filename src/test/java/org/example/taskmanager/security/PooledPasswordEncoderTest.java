@@ -0,0 +1,58 @@
+package org.example.taskmanager.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.example.taskmanager.exception.PasswordHashingRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledPasswordEncoderTest {
+
+    private PooledPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new PooledPasswordEncoder(4, 1, 4, Duration.ofSeconds(10), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    void testEncodeAndMatches() {
+        var encoded = encoder.encode("TestPassword");
+
+        assertTrue(encoder.matches("TestPassword", encoded));
+        assertFalse(encoder.matches("WrongPassword", encoded));
+    }
+
+    @Test
+    void testUpgradeEncodingOnCostChange() {
+        assertFalse(encoder.upgradeEncoding(encoder.encode("TestPassword")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("TestPassword")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(10).encode("TestPassword")));
+    }
+
+    @Test
+    void testWaitingLongerThanTimeoutIsRejected() {
+        var slowEncoder = new PooledPasswordEncoder(14, 1, 4, Duration.ofMillis(50), new SimpleMeterRegistry());
+        try {
+            // occupies the only hashing thread
+            CompletableFuture.runAsync(() -> slowEncoder.encode("TestPassword"));
+
+            assertThrows(PasswordHashingRejectedException.class, () -> slowEncoder.encode("TestPassword"));
+        } finally {
+            slowEncoder.destroy();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.taskmanager.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.taskmanager.entity.Profile;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.repository.ProfileDAO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PrincipalCacheTest {
+
+    private final ProfileDAO profileDAO = mock(ProfileDAO.class);
+    private final PrincipalCache principalCache =
+            new PrincipalCache(profileDAO, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+    @Test
+    void testCachedPrincipalIsDetachedFromEntity() {
+        var profile = profile();
+        when(profileDAO.findByEmail(profile.getEmail())).thenReturn(profile);
+
+        var principal = principalCache.getByEmail(profile.getEmail());
+        profile.setPassword("changed");
+        profile.setIsActive(false);
+
+        assertEquals("hash", principal.getPassword());
+        assertTrue(principal.isEnabled());
+        assertSame(principal, principalCache.getById(profile.getId()));
+        verify(profileDAO, never()).findById(profile.getId());
+    }
+
+    @Test
+    void testProfileChangedEvictsBothKeys() {
+        var profile = profile();
+        when(profileDAO.findByEmail(profile.getEmail())).thenReturn(profile);
+        principalCache.getByEmail(profile.getEmail());
+
+        principalCache.onInvalidation(new InvalidationEvent.ProfileChanged(profile.getId()));
+        principalCache.getByEmail(profile.getEmail());
+
+        verify(profileDAO, times(2)).findByEmail(profile.getEmail());
+    }
+
+    private static Profile profile() {
+        return Profile.builder()
+                .id(UUID.randomUUID())
+                .email("user@example.org")
+                .password("hash")
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.taskmanager.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.example.taskmanager.util.SecurityConfigurationConstraint.PERMITTED_ALL;
+import static org.example.taskmanager.util.SecurityConfigurationConstraint.TOKEN_REQUIRED;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PublicRouteClassifierTest {
+
+    private final PublicRouteClassifier classifier = new PublicRouteClassifier(PERMITTED_ALL, TOKEN_REQUIRED);
+
+    @Test
+    void testPublicRoutes() {
+        assertTrue(classifier.isPublic("/auth/sign-in"));
+        assertTrue(classifier.isPublic("/auth/refresh"));
+        assertTrue(classifier.isPublic("/swagger-ui/index.html"));
+        assertTrue(classifier.isPublic("/v3/api-docs/swagger-config"));
+    }
+
+    @Test
+    void testProtectedRoutes() {
+        assertFalse(classifier.isPublic("/auth/logout"));
+        assertFalse(classifier.isPublic("/tasks"));
+        assertFalse(classifier.isPublic("/profiles/1/tasks"));
+        assertFalse(classifier.isPublic("/authx"));
+    }
+
+    @Test
+    void testContextPathIsStripped() {
+        var request = new MockHttpServletRequest("POST", "/api/auth/sign-in");
+        request.setContextPath("/api");
+
+        assertTrue(classifier.isPublic(request));
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.taskmanager.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UuidBloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        var filter = new UuidBloomFilter(10_000, 0.01);
+        var keys = new ArrayList<UUID>();
+        for (int i = 0; i < 10_000; i++) {
+            var key = UUID.randomUUID();
+            keys.add(key);
+            filter.put(key);
+        }
+
+        keys.forEach(key -> assertTrue(filter.mightContain(key)));
+    }
+
+    @Test
+    void testFalsePositiveRateIsBounded() {
+        var filter = new UuidBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+
+        var falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) falsePositives++;
+        }
+
+        assertTrue(falsePositives < 3_000, "False positives: " + falsePositives);
+    }
+}
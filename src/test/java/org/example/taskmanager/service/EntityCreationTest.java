@@ -0,0 +1,189 @@
+package org.example.taskmanager.service;
+
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.api.request.profile.AddProfileRequest;
+import org.example.taskmanager.api.request.task.AddTaskRequest;
+import org.example.taskmanager.api.request.auth.SignUpRequest;
+import org.example.taskmanager.api.request.taskComment.AddTaskCommentRequest;
+import org.example.taskmanager.entity.Jwt;
+import org.example.taskmanager.entity.Profile;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.entity.TaskComment;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.repository.JwtDAO;
+import org.example.taskmanager.repository.ProfileDAO;
+import org.example.taskmanager.repository.TaskCommentDAO;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.security.PrincipalSnapshot;
+import org.example.taskmanager.service.auth.AuthenticationService;
+import org.example.taskmanager.service.auth.JwtService;
+import org.example.taskmanager.service.implement.ProfileServiceImpl;
+import org.example.taskmanager.service.implement.TaskCommentServiceImpl;
+import org.example.taskmanager.service.implement.TaskServiceImpl;
+import org.example.taskmanager.util.IdGenerator;
+import org.example.taskmanager.util.JwtUtil;
+import org.example.taskmanager.util.PasswordUtil;
+import org.example.taskmanager.util.ProfileAccessUtil;
+import org.example.taskmanager.util.ProfileUtil;
+import org.example.taskmanager.util.UuidV7Generator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Create paths save new entities (INSERT without preceding SELECT) and don't re-read them.
+ * Statements of the saves are counted on database by {@code EntityInsertStatementTest}
+ */
+@ExtendWith(MockitoExtension.class)
+public class EntityCreationTest {
+
+    @Mock
+    private TaskDAO taskDAO;
+    @Mock
+    private ProfileDAO profileDAO;
+    @Mock
+    private TaskCommentDAO taskCommentDAO;
+    @Mock
+    private ProfileUtil profileUtil;
+    @Mock
+    private ProfileAccessUtil profileAccessUtil;
+    @Mock
+    private PasswordUtil passwordUtil;
+    @Mock
+    private InvalidationBus invalidationBus;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private JwtDAO jwtDAO;
+    @Mock
+    private AuthenticationManager authenticationManager;
+    @Spy
+    private ModelMapper modelMapper = modelMapper();
+    @Spy
+    private IdGenerator idGenerator = new UuidV7Generator();
+    @InjectMocks
+    private TaskServiceImpl taskService;
+    @InjectMocks
+    private TaskCommentServiceImpl taskCommentService;
+    @InjectMocks
+    private ProfileServiceImpl profileService;
+    @InjectMocks
+    private JwtService jwtService;
+    @InjectMocks
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(profileDAO.existsById(any())).thenReturn(true);
+        lenient().when(taskDAO.existsById(any())).thenReturn(true);
+        lenient().when(taskDAO.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(taskCommentDAO.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(profileDAO.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testCreateTask() {
+        var authorId = UUID.randomUUID();
+
+        var response = taskService.create(new AddTaskRequest(
+                "Test task", null, TaskStatus.WAITING, TaskPriority.LOW, authorId, null
+        ));
+
+        var captor = ArgumentCaptor.forClass(Task.class);
+        verify(taskDAO, times(1)).save(captor.capture());
+        assertTrue(captor.getValue().isNew());
+        assertEquals(captor.getValue().getId(), response.getId());
+        verify(taskDAO, never()).findById(any());
+    }
+
+    @Test
+    void testCreateTaskComment() {
+
+        var response = taskCommentService.create(new AddTaskCommentRequest(UUID.randomUUID(), UUID.randomUUID(), "Test comment"));
+
+        var captor = ArgumentCaptor.forClass(TaskComment.class);
+        verify(taskCommentDAO, times(1)).save(captor.capture());
+        assertTrue(captor.getValue().isNew());
+        assertEquals(captor.getValue().getId(), response.getId());
+        verify(taskCommentDAO, never()).findById(any());
+    }
+
+    @Test
+    void testCreateProfile() {
+
+        profileService.create(new AddProfileRequest("Test", "test@example.org", "password"));
+
+        var captor = ArgumentCaptor.forClass(Profile.class);
+        verify(profileDAO, times(1)).save(captor.capture());
+        assertTrue(captor.getValue().isNew());
+        verify(profileUtil).convertToResponse(captor.getValue());
+        verify(profileUtil, never()).tryToGetProfile(any());
+        verify(profileDAO, never()).findById(any());
+    }
+
+    @Test
+    void testSignUp() {
+
+        authenticationService.signUp(new SignUpRequest("Test", "test@example.org", "password"));
+
+        var captor = ArgumentCaptor.forClass(Profile.class);
+        verify(profileDAO, times(1)).save(captor.capture());
+        assertTrue(captor.getValue().isNew());
+        verify(profileUtil).convertToResponse(captor.getValue());
+        verify(profileDAO, never()).findById(any());
+        verify(profileDAO, never()).findByEmail(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRegisterTokens() {
+        var secret = Base64.getEncoder().encodeToString(new byte[32]);
+        ReflectionTestUtils.setField(jwtService, "jwtSigningKey", secret);
+        ReflectionTestUtils.setField(jwtService, "refreshJwtSigningKey", secret);
+        ReflectionTestUtils.setField(jwtService, "accessLifetime", Duration.ofHours(1));
+        ReflectionTestUtils.setField(jwtService, "refreshLifetime", Duration.ofHours(8));
+        jwtService.init();
+        var principal = new PrincipalSnapshot(UUID.randomUUID(), "test@example.org", "hash", true);
+
+        jwtService.registerTokens(principal);
+
+        var captor = ArgumentCaptor.forClass(List.class);
+        verify(jwtDAO, times(1)).saveAll(captor.capture());
+        List<Jwt> tokens = captor.getValue();
+        assertEquals(2, tokens.size());
+        for (var token : tokens) {
+            assertTrue(token.isNew());
+            assertEquals(principal.id(), token.getProfileId());
+        }
+        verifyNoMoreInteractions(jwtDAO);
+    }
+
+    private static ModelMapper modelMapper() {
+        var modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        return modelMapper;
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.taskmanager.service;
+
+import org.example.taskmanager.api.enums.TaskBatchOperationType;
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.api.request.task.PutTaskRequest;
+import org.example.taskmanager.api.request.task.TaskBatchOperation;
+import org.example.taskmanager.api.request.task.TaskBatchRequest;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.repository.ProfileDAO;
+import org.example.taskmanager.repository.TaskCommentDAO;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.service.implement.TaskBatchServiceImpl;
+import org.example.taskmanager.util.IdGenerator;
+import org.example.taskmanager.util.ProfileAccessUtil;
+import org.example.taskmanager.util.UuidV7Generator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mixed batch keeps the order of operations in its results and is rejected as a whole by one invalid operation
+ */
+@ExtendWith(MockitoExtension.class)
+public class TaskBatchServiceTest {
+
+    @Mock
+    private TaskDAO taskDAO;
+    @Mock
+    private ProfileDAO profileDAO;
+    @Mock
+    private TaskCommentDAO taskCommentDAO;
+    @Mock
+    private ProfileAccessUtil profileAccessUtil;
+    @Mock
+    private InvalidationBus invalidationBus;
+    @Spy
+    private ModelMapper modelMapper = modelMapper();
+    @Spy
+    private IdGenerator idGenerator = new UuidV7Generator();
+    @InjectMocks
+    private TaskBatchServiceImpl taskBatchService;
+
+    @Test
+    void testResultsInOperationOrder() {
+        var authorId = UUID.randomUUID();
+        var updated = task(authorId, "updated");
+        var deleted = task(authorId, "deleted");
+        when(taskDAO.findAllById(anyIterable())).thenReturn(List.of(updated, deleted));
+        when(profileDAO.findExistingIds(anyCollection())).thenReturn(List.of(authorId));
+        when(taskDAO.saveAll(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        var request = new TaskBatchRequest(List.of(
+                create(authorId, "first"),
+                TaskBatchOperation.builder()
+                        .type(TaskBatchOperationType.UPDATE)
+                        .id(updated.getId())
+                        .task(putRequest(authorId, "renamed"))
+                        .build(),
+                TaskBatchOperation.builder().type(TaskBatchOperationType.DELETE).id(deleted.getId()).build(),
+                create(authorId, "second")
+        ));
+
+        var results = taskBatchService.execute(request).getResults();
+
+        assertEquals(4, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).index());
+            assertEquals(request.getOperations().get(i).getType(), results.get(i).type());
+        }
+        assertEquals("first", results.get(0).task().getLabel());
+        assertNotNull(results.get(0).id());
+        assertEquals(updated.getId(), results.get(1).id());
+        assertEquals("renamed", results.get(1).task().getLabel());
+        assertEquals(deleted.getId(), results.get(2).id());
+        assertNull(results.get(2).task());
+        assertEquals("second", results.get(3).task().getLabel());
+        assertTrue(results.get(0).id().compareTo(results.get(3).id()) < 0);
+        verify(taskCommentDAO).deleteAllByTaskIdIn(List.of(deleted.getId()));
+        verify(taskDAO).deleteAll(List.of(deleted));
+        verify(invalidationBus).publish(new InvalidationEvent.TaskDeleted(deleted.getId()));
+    }
+
+    @Test
+    void testRejectBatchWithInvalidOperation() {
+        var authorId = UUID.randomUUID();
+        var request = new TaskBatchRequest(List.of(
+                create(authorId, "valid"),
+                TaskBatchOperation.builder().type(TaskBatchOperationType.DELETE).build()
+        ));
+
+        var exception = assertThrows(UnexpectedRequestParameterException.class, () -> taskBatchService.execute(request));
+
+        assertTrue(exception.getMessage().startsWith("Operation 1"));
+        verify(taskDAO, never()).findAllById(any());
+        verify(taskDAO, never()).saveAll(any());
+        verify(taskDAO, never()).deleteAll(any());
+        verifyNoInteractions(taskCommentDAO, invalidationBus);
+    }
+
+    @Test
+    void testRejectTaskReferencedTwice() {
+        var authorId = UUID.randomUUID();
+        var taskId = UUID.randomUUID();
+        var request = new TaskBatchRequest(List.of(
+                TaskBatchOperation.builder()
+                        .type(TaskBatchOperationType.UPDATE)
+                        .id(taskId)
+                        .task(putRequest(authorId, "renamed"))
+                        .build(),
+                TaskBatchOperation.builder().type(TaskBatchOperationType.DELETE).id(taskId).build()
+        ));
+
+        var exception = assertThrows(UnexpectedRequestParameterException.class, () -> taskBatchService.execute(request));
+
+        assertTrue(exception.getMessage().contains(taskId.toString()));
+        verify(taskDAO, never()).findAllById(any());
+        verify(taskDAO, never()).saveAll(any());
+        verify(taskDAO, never()).deleteAll(any());
+        verifyNoInteractions(taskCommentDAO, invalidationBus);
+    }
+
+    private static TaskBatchOperation create(UUID authorId, String label) {
+        return TaskBatchOperation.builder()
+                .type(TaskBatchOperationType.CREATE)
+                .task(putRequest(authorId, label))
+                .build();
+    }
+
+    private static PutTaskRequest putRequest(UUID authorId, String label) {
+        return PutTaskRequest.builder()
+                .label(label)
+                .status(TaskStatus.WAITING)
+                .priority(TaskPriority.MEDIUM)
+                .authorId(authorId)
+                .build();
+    }
+
+    private static Task task(UUID authorId, String label) {
+        var task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setLabel(label);
+        task.setStatus(TaskStatus.WAITING);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setAuthorId(authorId);
+        return task;
+    }
+
+    private static ModelMapper modelMapper() {
+        var modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        return modelMapper;
+    }
+}
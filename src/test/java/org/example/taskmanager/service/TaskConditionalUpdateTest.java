@@ -0,0 +1,112 @@
+package org.example.taskmanager.service;
+
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.api.request.task.PutTaskRequest;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.exception.PreconditionFailedException;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.repository.ProfileDAO;
+import org.example.taskmanager.repository.TaskCommentDAO;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.service.implement.TaskServiceImpl;
+import org.example.taskmanager.util.JwtUtil;
+import org.example.taskmanager.util.ProfileAccessUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Full update with If-Match: the loaded task is updated in place when its version matches the expected one
+ */
+@ExtendWith(MockitoExtension.class)
+public class TaskConditionalUpdateTest {
+
+    @Mock
+    private TaskDAO taskDAO;
+    @Mock
+    private ProfileDAO profileDAO;
+    @Mock
+    private TaskCommentDAO taskCommentDAO;
+    @Mock
+    private ProfileAccessUtil profileAccessUtil;
+    @Mock
+    private InvalidationBus invalidationBus;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Spy
+    private ModelMapper modelMapper = modelMapper();
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(profileDAO.existsById(any())).thenReturn(true);
+    }
+
+    @Test
+    void testUpdateTaskIsNotNew() {
+        var authorId = UUID.randomUUID();
+        var stored = storedTask(authorId);
+        when(taskDAO.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        taskService.putUpdate(stored.getId(), new PutTaskRequest(
+                "Test task", null, TaskStatus.WAITING, TaskPriority.LOW, authorId, null
+        ), 3L);
+
+        var captor = ArgumentCaptor.forClass(Task.class);
+        verify(taskDAO).saveAndFlush(captor.capture());
+        assertSame(stored, captor.getValue());
+        assertFalse(captor.getValue().isNew());
+        assertEquals("Test task", captor.getValue().getLabel());
+        assertNull(captor.getValue().getExecutorId());
+    }
+
+    @Test
+    void testUpdateTaskOfAnotherVersion() {
+        var authorId = UUID.randomUUID();
+        var stored = storedTask(authorId);
+        var request = new PutTaskRequest("Test task", null, TaskStatus.WAITING, TaskPriority.LOW, authorId, null);
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.putUpdate(stored.getId(), request, 2L));
+        verify(taskDAO, never()).saveAndFlush(any());
+    }
+
+    /**
+     * Task as loaded by repository
+     */
+    private Task storedTask(UUID authorId) {
+        var task = new Task(
+                UUID.randomUUID(), "Old task", null, TaskStatus.WAITING, TaskPriority.LOW, authorId, UUID.randomUUID(), 3L
+        );
+        task.markNotNew();
+        when(taskDAO.findById(task.getId())).thenReturn(Optional.of(task));
+        return task;
+    }
+
+    private static ModelMapper modelMapper() {
+        var modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        return modelMapper;
+    }
+}
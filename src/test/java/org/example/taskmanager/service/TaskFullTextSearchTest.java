@@ -0,0 +1,132 @@
+package org.example.taskmanager.service;
+
+import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.repository.projection.TaskSearchHitView;
+import org.example.taskmanager.service.implement.TaskServiceImpl;
+import org.example.taskmanager.util.PageCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Full text search pages are seeked by (rank DESC, id), rank is REAL and survives the cursor round-trip
+ */
+@ExtendWith(MockitoExtension.class)
+public class TaskFullTextSearchTest {
+
+    private static final float RANK = 0.0607927f;
+
+    @Mock
+    private TaskDAO taskDAO;
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @Test
+    void testFirstPageStartsFromInfiniteRank() {
+        var first = new Hit(new UUID(0, 1), RANK);
+        var second = new Hit(new UUID(0, 2), RANK);
+        var third = new Hit(new UUID(0, 3), RANK / 2);
+        when(taskDAO.searchFullText("task", false, Float.POSITIVE_INFINITY, new UUID(0, 0), 3))
+                .thenReturn(List.of(first, second, third));
+
+        var page = taskService.searchFullText("task", false, 2, null);
+
+        assertEquals(List.of(first.getId(), second.getId()), page.getItems().stream().map(it -> it.getId()).toList());
+        var cursor = PageCursor.decode(page.getNextCursor(), "RANK");
+        assertEquals(second.getId(), cursor.id());
+        assertEquals(RANK, Float.parseFloat(cursor.value()));
+    }
+
+    @Test
+    void testNextPageSeeksAfterCursor() {
+        var last = new Hit(new UUID(0, 4), RANK / 2);
+        var cursor = new PageCursor("RANK", new UUID(0, 2), Float.toString(RANK)).encode();
+        when(taskDAO.searchFullText("task", true, RANK, new UUID(0, 2), 3)).thenReturn(List.of(last));
+
+        var page = taskService.searchFullText("task", true, 2, cursor);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testMalformedCursorRank() {
+        var cursor = new PageCursor("RANK", UUID.randomUUID(), "high").encode();
+
+        assertThrows(UnexpectedRequestParameterException.class, () -> taskService.searchFullText("task", false, 2, cursor));
+        verifyNoInteractions(taskDAO);
+    }
+
+    @Test
+    void testCursorOfAnotherSortKey() {
+        var cursor = new PageCursor("ID", UUID.randomUUID(), null).encode();
+
+        assertThrows(UnexpectedRequestParameterException.class, () -> taskService.searchFullText("task", false, 2, cursor));
+        verifyNoInteractions(taskDAO);
+    }
+
+    private record Hit(UUID id, float rank) implements TaskSearchHitView {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getLabel() {
+            return "Task";
+        }
+
+        @Override
+        public String getDescription() {
+            return null;
+        }
+
+        @Override
+        public String getStatus() {
+            return "WAITING";
+        }
+
+        @Override
+        public String getPriority() {
+            return "LOW";
+        }
+
+        @Override
+        public UUID getAuthorId() {
+            return UUID.randomUUID();
+        }
+
+        @Override
+        public UUID getExecutorId() {
+            return null;
+        }
+
+        @Override
+        public Float getRank() {
+            return rank;
+        }
+
+        @Override
+        public String getLabelHeadline() {
+            return "<b>Task</b>";
+        }
+
+        @Override
+        public String getDescriptionHeadline() {
+            return "";
+        }
+    }
+}
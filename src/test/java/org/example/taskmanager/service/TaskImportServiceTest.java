@@ -0,0 +1,119 @@
+package org.example.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.example.taskmanager.api.enums.DataFormat;
+import org.example.taskmanager.api.response.TaskImportResponse;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.invalidation.InvalidationEvent;
+import org.example.taskmanager.service.implement.TaskImportServiceImpl;
+import org.example.taskmanager.util.JwtUtil;
+import org.example.taskmanager.util.UuidV7Generator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unreadable rows and input are reported, rows of committed chunks stay in the report
+ */
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceTest {
+
+    private final UUID profileId = UUID.randomUUID();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    private TaskImportServiceImpl taskImportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        try (var factory = Validation.buildDefaultValidatorFactory()) {
+            taskImportService = new TaskImportServiceImpl(
+                    jdbcTemplate,
+                    transactionManager,
+                    new ObjectMapper(),
+                    factory.getValidator(),
+                    jwtUtil,
+                    invalidationBus,
+                    new UuidV7Generator(),
+                    2,
+                    100
+            );
+        }
+        when(jwtUtil.getAuthorizedProfileId()).thenReturn(profileId);
+        lenient().when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(profileId));
+    }
+
+    @Test
+    void testNullRowIsRowError() {
+        var response = taskImportService.importTasks(DataFormat.NDJSON, input("null\n"));
+
+        assertEquals(0, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(List.of(new TaskImportResponse.RowError(1, "Row is not a JSON object")), response.getErrors());
+        verify(invalidationBus, never()).publish(any());
+    }
+
+    @Test
+    void testReadFailureKeepsReportOfImportedRows() {
+        var readable = input(row("First") + row("Second") + "null\n");
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        var response = taskImportService.importTasks(DataFormat.NDJSON, new SequenceInputStream(readable, broken));
+
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(2, response.getErrors().size());
+        assertEquals(new TaskImportResponse.RowError(3, "Row is not a JSON object"), response.getErrors().get(0));
+        assertEquals(4, response.getErrors().get(1).row());
+        assertTrue(response.getErrors().get(1).message().contains("Connection reset"));
+        verify(invalidationBus).publish(new InvalidationEvent.TasksImported());
+    }
+
+    private String row(String label) {
+        return String.format(
+                "{\"label\":\"%s\",\"status\":\"WAITING\",\"priority\":\"LOW\",\"authorId\":\"%s\"}\n", label, profileId
+        );
+    }
+
+    private static InputStream input(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
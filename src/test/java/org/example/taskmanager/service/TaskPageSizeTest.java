@@ -0,0 +1,47 @@
+package org.example.taskmanager.service;
+
+import org.example.taskmanager.api.enums.TaskSortKey;
+import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.service.implement.TaskServiceImpl;
+import org.example.taskmanager.util.PaginationConstraint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Page size of keyset listings is bounded before any query
+ */
+@ExtendWith(MockitoExtension.class)
+public class TaskPageSizeTest {
+
+    @Mock
+    private TaskDAO taskDAO;
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @Test
+    void testProfileTasksPageSizeOverflow() {
+        assertThrows(
+                UnexpectedRequestParameterException.class,
+                () -> taskService.getByProfile(UUID.randomUUID(), "AUTHOR", null, Integer.MAX_VALUE, null)
+        );
+        verifyNoInteractions(taskDAO);
+    }
+
+    @Test
+    void testCursorPageSizeAboveMaximum() {
+        assertThrows(
+                UnexpectedRequestParameterException.class,
+                () -> taskService.getAllWithCursor(PaginationConstraint.MAX_PAGE_SIZE + 1, null, TaskSortKey.ID)
+        );
+        verifyNoInteractions(taskDAO);
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.taskmanager.service;
+
+import org.example.taskmanager.api.enums.TaskPriority;
+import org.example.taskmanager.api.enums.TaskStatus;
+import org.example.taskmanager.entity.Task;
+import org.example.taskmanager.exception.ConcurrentModificationConflictException;
+import org.example.taskmanager.exception.ExpectedEntityNotFoundException;
+import org.example.taskmanager.exception.PreconditionFailedException;
+import org.example.taskmanager.invalidation.InvalidationBus;
+import org.example.taskmanager.repository.TaskDAO;
+import org.example.taskmanager.service.implement.TaskServiceImpl;
+import org.example.taskmanager.util.JwtUtil;
+import org.example.taskmanager.util.ProfileAccessUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Status change with expected status is one conditional UPDATE, the task is read only on failure
+ */
+@ExtendWith(MockitoExtension.class)
+public class TaskStatusUpdateTest {
+
+    private final UUID profileId = UUID.randomUUID();
+    private final UUID taskId = UUID.randomUUID();
+
+    @Mock
+    private TaskDAO taskDAO;
+    @Mock
+    private ProfileAccessUtil profileAccessUtil;
+    @Mock
+    private InvalidationBus invalidationBus;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Spy
+    private ModelMapper modelMapper = new ModelMapper();
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtil.getAuthorizedProfileId()).thenReturn(profileId);
+    }
+
+    @Test
+    void testCompareAndSetStatusSuccess() {
+        when(taskDAO.compareAndSetStatus(taskId, "COMPLETED", "PROCESSING", -1, profileId))
+                .thenReturn(List.of(task(TaskStatus.COMPLETED, 4L)));
+
+        var response = taskService.patchStatus(taskId, "COMPLETED", "PROCESSING", null);
+
+        assertEquals(TaskStatus.COMPLETED, response.getBody().getStatus());
+        assertEquals(4L, response.getVersion());
+        verify(taskDAO, never()).findById(any());
+        verify(taskDAO, never()).save(any());
+    }
+
+    @Test
+    void testCompareAndSetStatusConflict() {
+        when(taskDAO.compareAndSetStatus(any(), any(), any(), anyLong(), any())).thenReturn(List.of());
+        when(taskDAO.findById(taskId)).thenReturn(Optional.of(task(TaskStatus.COMPLETED, 3L)));
+
+        assertThrows(
+                ConcurrentModificationConflictException.class,
+                () -> taskService.patchStatus(taskId, "COMPLETED", "PROCESSING", null)
+        );
+        verify(profileAccessUtil).checkAuthorAuthorization(Set.of(profileId));
+        verify(taskDAO, never()).save(any());
+    }
+
+    @Test
+    void testCompareAndSetStatusOfAnotherVersion() {
+        when(taskDAO.compareAndSetStatus(taskId, "COMPLETED", "", 2, profileId)).thenReturn(List.of());
+        when(taskDAO.findById(taskId)).thenReturn(Optional.of(task(TaskStatus.PROCESSING, 3L)));
+
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> taskService.patchStatus(taskId, "COMPLETED", null, 2L)
+        );
+    }
+
+    @Test
+    void testCompareAndSetStatusOfAbsentTask() {
+        when(taskDAO.compareAndSetStatus(any(), any(), any(), anyLong(), any())).thenReturn(List.of());
+        when(taskDAO.findById(taskId)).thenReturn(Optional.empty());
+
+        assertThrows(
+                ExpectedEntityNotFoundException.class,
+                () -> taskService.patchStatus(taskId, "COMPLETED", "PROCESSING", null)
+        );
+    }
+
+    private Task task(TaskStatus status, Long version) {
+        var task = new Task();
+        task.setId(taskId);
+        task.setLabel("Test task");
+        task.setStatus(status);
+        task.setPriority(TaskPriority.LOW);
+        task.setAuthorId(profileId);
+        task.setVersion(version);
+        return task;
+    }
+}
@@ -7,7 +7,9 @@ import org.example.taskmanager.api.enums.TaskPriority;
 import org.example.taskmanager.api.enums.TaskStatus;
 import org.example.taskmanager.api.request.task.AddTaskRequest;
 import org.example.taskmanager.api.request.task.PutTaskRequest;
+import org.example.taskmanager.api.response.SlicePage;
 import org.example.taskmanager.api.response.TaskResponse;
+import org.example.taskmanager.api.response.VersionedResponse;
 import org.example.taskmanager.controller.TaskController;
 import org.example.taskmanager.service.interfaces.TaskCommentService;
 import org.example.taskmanager.service.interfaces.TaskService;
@@ -15,23 +17,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TaskControllerTest {
 
     private TaskService taskService;
+    private TaskCommentService taskCommentService;
     private TaskController taskController;
     private Validator validator;
 
     @BeforeEach
     void setUp() {
         taskService = mock(TaskService.class);
-        TaskCommentService taskCommentService = mock(TaskCommentService.class);
+        taskCommentService = mock(TaskCommentService.class);
         taskController = new TaskController(taskService, taskCommentService);
 
         try (var factory = Validation.buildDefaultValidatorFactory()) {
@@ -102,10 +109,34 @@ public class TaskControllerTest {
 
         assertTrue(violations.isEmpty());
 
-        when(taskService.putUpdate(taskId, request)).thenReturn(mockedResponse);
-        var responseEntity = taskController.putUpdate(taskId, request);
+        when(taskService.putUpdate(taskId, request, null)).thenReturn(new VersionedResponse<>(mockedResponse, 1L));
+        var responseEntity = taskController.putUpdate(taskId, request, null);
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(mockedResponse, responseEntity.getBody());
     }
+
+    @Test
+    void testGetCommentsWithoutRevalidation() {
+        var taskId = UUID.randomUUID();
+        when(taskCommentService.getAllByTaskWithPagination(taskId, 0, 10, false))
+                .thenReturn(new SlicePage<>(List.of(), false, null, "W/\"1\""));
+
+        var responseEntity = taskController.getComments(taskId, 10, 0, false, null);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals("W/\"1\"", responseEntity.getHeaders().getETag());
+        verify(taskCommentService, never()).getPageETag(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetCommentsNotModified() {
+        var taskId = UUID.randomUUID();
+        when(taskCommentService.getPageETag(taskId, 0, 10, false)).thenReturn("W/\"1\"");
+
+        var responseEntity = taskController.getComments(taskId, 10, 0, false, "W/\"1\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+        verify(taskCommentService, never()).getAllByTaskWithPagination(any(), any(), any(), any());
+    }
 }
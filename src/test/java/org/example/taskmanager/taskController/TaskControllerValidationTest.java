@@ -7,6 +7,7 @@ import org.example.taskmanager.api.enums.TaskStatus;
 import org.example.taskmanager.api.request.task.AddTaskRequest;
 import org.example.taskmanager.api.request.task.PutTaskRequest;
 import org.example.taskmanager.controller.TaskController;
+import org.example.taskmanager.util.PaginationConstraint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -308,4 +309,38 @@ public class TaskControllerValidationTest {
                 .param("pageSize", String.valueOf(pageSize))
         ).andExpect(MockMvcResultMatchers.status().isBadRequest());
     }
+
+    @Test
+    void testGetAllWithPaginationTask_ValidationFailureByZeroPageSize() throws Exception {
+        mockMvc.perform(get("/tasks")
+                .param("pageNumber", "0")
+                .param("pageSize", "0")
+        ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    // Get task's comments with pagination request
+
+    @Test
+    void testGetComments_ValidationSuccess() throws Exception {
+        mockMvc.perform(get("/tasks/{id}/comments", UUID.randomUUID())
+                .param("pageNumber", "0")
+                .param("pageSize", String.valueOf(PaginationConstraint.MAX_PAGE_SIZE))
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void testGetComments_ValidationFailureByZeroPageSize() throws Exception {
+        mockMvc.perform(get("/tasks/{id}/comments", UUID.randomUUID())
+                .param("pageNumber", "0")
+                .param("pageSize", "0")
+        ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    void testGetComments_ValidationFailureByTooLargePageSize() throws Exception {
+        mockMvc.perform(get("/tasks/{id}/comments", UUID.randomUUID())
+                .param("pageNumber", "0")
+                .param("pageSize", String.valueOf(PaginationConstraint.MAX_PAGE_SIZE + 1))
+        ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
 }
@@ -0,0 +1,39 @@
+package org.example.taskmanager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CsvRecordReaderTest {
+
+    @Test
+    void testReadQuotedFields() throws IOException {
+        var reader = new CsvRecordReader(new StringReader("a,\"b, c\",\"say \"\"hi\"\"\"\r\n\"multi\nline\",x\n"));
+
+        assertEquals(List.of("a", "b, c", "say \"hi\""), reader.readRecord());
+        assertEquals(List.of("multi\nline", "x"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void testReadEmptyFields() throws IOException {
+        var reader = new CsvRecordReader(new StringReader("a,,\"\""));
+
+        assertEquals(Arrays.asList("a", null, ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void testReadUnclosedQuote() {
+        var reader = new CsvRecordReader(new StringReader("a,\"b"));
+
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.taskmanager.util;
+
+import org.example.taskmanager.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ETagsTest {
+
+    @Test
+    void testMatchesIfNoneMatch() {
+        var eTag = ETags.of(5);
+
+        assertTrue(ETags.matches("\"4\", \"5\"", eTag));
+        assertTrue(ETags.matches("W/\"5\"", eTag));
+        assertTrue(ETags.matches("*", eTag));
+        assertFalse(ETags.matches("\"4\"", eTag));
+        assertFalse(ETags.matches(null, eTag));
+    }
+
+    @Test
+    void testParseIfMatch() {
+        assertEquals(5L, ETags.parseVersion("\"5\""));
+        assertNull(ETags.parseVersion("*"));
+        assertNull(ETags.parseVersion(null));
+        assertThrows(PreconditionFailedException.class, () -> ETags.parseVersion("W/\"5\""));
+        assertThrows(PreconditionFailedException.class, () -> ETags.parseVersion("\"abc\""));
+    }
+
+    @Test
+    void testCollectionTagDependsOnVersions() {
+        var id = UUID.randomUUID();
+
+        var first = new ETags.Hasher().add(id, 1L).toETag();
+        var same = new ETags.Hasher().add(id, 1L).toETag();
+        var changed = new ETags.Hasher().add(id, 2L).toETag();
+
+        assertEquals(first, same);
+        assertNotEquals(first, changed);
+        assertTrue(first.startsWith("W/\""));
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.taskmanager.util;
+
+import org.example.taskmanager.exception.UnexpectedRequestParameterException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageCursorTest {
+
+    @Test
+    void testEncodeDecode() {
+        var cursor = new PageCursor("LABEL", UUID.randomUUID(), "label: with separator");
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode(), "LABEL"));
+    }
+
+    @Test
+    void testEncodeDecodeWithoutValue() {
+        var cursor = new PageCursor("ID", UUID.randomUUID(), null);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode(), "ID"));
+    }
+
+    @Test
+    void testDecodeCursorOfAnotherSort() {
+        var cursor = new PageCursor("ID", UUID.randomUUID(), null).encode();
+
+        assertThrows(UnexpectedRequestParameterException.class, () -> PageCursor.decode(cursor, "LABEL"));
+    }
+
+    @Test
+    void testDecodeMalformedCursor() {
+        assertThrows(UnexpectedRequestParameterException.class, () -> PageCursor.decode("not a cursor", "ID"));
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.taskmanager.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RowWriterTest {
+
+    private static final List<String> FIELDS = List.of("id", "label", "authorId");
+
+    @Test
+    void testCsvQuoting() throws Exception {
+        var output = new ByteArrayOutputStream();
+        try (var writer = new CsvRowWriter(output, FIELDS)) {
+            writer.writeHeader();
+            writer.writeRow(row("1", "plain", "a"));
+            writer.writeRow(row("2", "comma, \"quote\"\nline", "b"));
+        }
+
+        assertEquals(
+                "id,label,authorId\r\n" +
+                        "1,plain,a\r\n" +
+                        "2,\"comma, \"\"quote\"\"\nline\",b\r\n",
+                output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void testCsvNullAndEmptyAreReadBack() throws Exception {
+        var output = new ByteArrayOutputStream();
+        try (var writer = new CsvRowWriter(output, FIELDS)) {
+            writer.writeRow(row("1", "", null));
+        }
+
+        var text = output.toString(StandardCharsets.UTF_8);
+        assertEquals("1,\"\",\r\n", text);
+        assertEquals(Arrays.asList("1", "", null), new CsvRecordReader(new StringReader(text)).readRecord());
+    }
+
+    @Test
+    void testNdjsonLines() throws Exception {
+        var output = new ByteArrayOutputStream();
+        try (var writer = new NdjsonRowWriter(new ObjectMapper().getFactory(), output, FIELDS)) {
+            writer.writeHeader();
+            writer.writeRow(row("1", "Task \"one\"", null));
+            writer.writeRow(row("2", "Task two", "a"));
+        }
+
+        assertEquals(
+                "{\"id\":\"1\",\"label\":\"Task \\\"one\\\"\",\"authorId\":null}\n" +
+                        "{\"id\":\"2\",\"label\":\"Task two\",\"authorId\":\"a\"}\n",
+                output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static ResultSet row(String... values) throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        for (int i = 0; i < values.length; i++) {
+            when(resultSet.getString(i + 1)).thenReturn(values[i]);
+        }
+        return resultSet;
+    }
+}
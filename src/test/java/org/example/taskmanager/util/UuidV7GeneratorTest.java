@@ -0,0 +1,72 @@
+package org.example.taskmanager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UuidV7GeneratorTest {
+
+    @Test
+    void testVersionVariantAndTimestamp() {
+        var generator = new UuidV7Generator(() -> 1_700_000_000_123L);
+
+        var id = generator.nextId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(1_700_000_000_123L, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void testMonotonicWithinMillisecondAndClockMovingBack() {
+        var time = new AtomicLong(1_700_000_000_000L);
+        var generator = new UuidV7Generator(time::get);
+
+        var previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) time.addAndGet(-1_000);
+            var id = generator.nextId();
+            assertTrue(previous.compareTo(id) < 0);
+            previous = id;
+        }
+    }
+
+    @Test
+    void testUniqueAcrossThreads() throws Exception {
+        var generator = new UuidV7Generator();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = new ArrayList<Future<List<UUID>>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    var ids = new ArrayList<UUID>();
+                    for (int j = 0; j < 10_000; j++) {
+                        ids.add(generator.nextId());
+                    }
+                    return ids;
+                }));
+            }
+            var unique = new HashSet<UUID>();
+            for (var future : futures) {
+                var ids = future.get();
+                for (int j = 1; j < ids.size(); j++) {
+                    assertTrue(ids.get(j - 1).compareTo(ids.get(j)) < 0);
+                }
+                unique.addAll(ids);
+            }
+            assertEquals(80_000, unique.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}